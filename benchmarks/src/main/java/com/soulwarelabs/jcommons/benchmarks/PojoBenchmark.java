@@ -0,0 +1,196 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoBenchmark.java
+ * Folder:   benchmarks/src/main/java/com/soulwarelabs/jcommons/benchmarks
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.soulwarelabs.jcommons.Box;
+import com.soulwarelabs.jcommons.Pair;
+import com.soulwarelabs.jcommons.Pojo;
+import com.soulwarelabs.jcommons.data.Credentials;
+import com.soulwarelabs.jcommons.data.Version;
+import com.soulwarelabs.jcommons.errors.Failure;
+
+/**
+ * Plain old Java object printing benchmark.
+ *
+ * @see Pojo
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class PojoBenchmark {
+
+    private Credentials credentials;
+    private Failure failure;
+    private Node flat;
+    private Node nested;
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @since v1.1.0
+     */
+    public PojoBenchmark() {
+
+    }
+
+    /**
+     * Prepares the object graphs.
+     *
+     * @since v1.1.0
+     */
+    @Setup
+    public void setUp() {
+        credentials = new Credentials("login", "password");
+        failure = new Failure();
+        failure.setCode("E-042");
+        failure.setDetails("connection refused");
+        failure.setTitle("Network failure");
+        flat = new Node("flat", 1);
+        nested = new Node("root", 0);
+        for (int index = 0; index < 16; index++) {
+            Node child = new Node("child-" + index, index);
+            child.attributes.put("version", new Version(1, index, 0));
+            child.attributes.put("owner", new Pair<String, Object>("login",
+                    credentials));
+            child.children.add(new Node("leaf", index));
+            nested.children.add(child);
+        }
+        nested.attributes.put("failure", failure);
+        nested.attributes.put("box", new Box<Object>(flat));
+    }
+
+    /**
+     * Copies a failure descriptor.
+     *
+     * @return copied failure descriptor.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public Failure copyFailure() {
+        return failure.copy();
+    }
+
+    /**
+     * Copies an authentication pair.
+     *
+     * @return copied authentication pair.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public Credentials copyCredentials() {
+        return credentials.copy();
+    }
+
+    /**
+     * Prints an object with a few scalar fields.
+     *
+     * @return printed object.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public StringBuilder printFlat() {
+        return Pojo.print(flat);
+    }
+
+    /**
+     * Prints an object graph with nested objects, collections and maps.
+     *
+     * @return printed object graph.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public StringBuilder printNested() {
+        return Pojo.print(nested);
+    }
+
+    /**
+     * Benchmark object graph node.
+     *
+     * @since v1.1.0
+     */
+    public static class Node extends Pojo {
+
+        private final Map<String, Object> attributes;
+        private final List<Node> children;
+        private final boolean enabled;
+        private final String name;
+        private final int weight;
+
+        /**
+         * Creates a new object graph node.
+         *
+         * @param name node name.
+         * @param weight node weight.
+         *
+         * @since v1.1.0
+         */
+        public Node(String name, int weight) {
+            this.attributes = new LinkedHashMap<String, Object>();
+            this.children = new ArrayList<Node>();
+            this.enabled = true;
+            this.name = name;
+            this.weight = weight;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked"})
+        public <T> T copy() {
+            Node result = new Node(name, weight);
+            result.attributes.putAll(attributes);
+            result.children.addAll(children);
+            return (T) result;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionBenchmark.java
+ * Folder:   benchmarks/src/main/java/com/soulwarelabs/jcommons/benchmarks
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.soulwarelabs.jcommons.data.Version;
+
+/**
+ * Semantic version descriptor benchmark.
+ *
+ * @see Version
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+public class VersionBenchmark {
+
+    @Param({"1.2.3", "10.20.30-beta.4-SNAPSHOT"})
+    private String text;
+
+    private Version left;
+    private Version right;
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @since v1.1.0
+     */
+    public VersionBenchmark() {
+
+    }
+
+    /**
+     * Prepares the version descriptors.
+     *
+     * @since v1.1.0
+     */
+    @Setup
+    public void setUp() {
+        left = new Version(10, 20, 30).setMinor(20, "beta").append(4);
+        right = new Version(10, 20, 30).setMinor(20, "beta").append(5);
+    }
+
+    /**
+     * Compares two versions different in the last number.
+     *
+     * @return comparison result.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public int compareTo() {
+        return left.compareTo(right);
+    }
+
+    /**
+     * Copies a version descriptor.
+     *
+     * @return copied version descriptor.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public Version copy() {
+        return left.copy();
+    }
+
+    /**
+     * Parses a version.
+     *
+     * @return parsed version descriptor.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public Version parse() {
+        return Version.parse(text);
+    }
+
+    /**
+     * Prints a version.
+     *
+     * @return printed version.
+     *
+     * @since v1.1.0
+     */
+    @Benchmark
+    public StringBuilder print() {
+        return left.print();
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoSchemeProcessor.java
+ * Folder:   processor/src/main/java/com/soulwarelabs/jcommons/processor
+ * Revision: 1.02, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import com.soulwarelabs.jcommons.Pojo;
+import com.soulwarelabs.jcommons.PojoScheme;
+import com.soulwarelabs.jcommons.Printable;
+import com.soulwarelabs.jcommons.namings.HiddenField;
+import com.soulwarelabs.jcommons.namings.SecretField;
+
+/**
+ * Data structure printing scheme generator.
+ * <p>
+ * Generates a {@link PojoScheme} for every concrete data structure class
+ * being compiled, so the data structure is printed without reflection.
+ * Hidden fields are skipped and secret fields are masked exactly as done by
+ * {@link Pojo#print(Object)}. Static constants are printed by their values.
+ * Fields not accessible from the package of the data structure (e.g. private
+ * ones) are read through their getters: a getter has to be declared by the
+ * class declaring the field, accessible from the package, named after the
+ * field by JavaBeans conventions ({@code getName()}, or {@code isName()} for
+ * a {@code boolean} field), take no arguments and return the field type.
+ * Such a getter is expected to return the field value as is. A data
+ * structure having any other inaccessible field is left to be printed by
+ * reflection.
+ *
+ * @see PojoScheme
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+@SupportedAnnotationTypes("*")
+public class PojoSchemeProcessor extends AbstractProcessor {
+
+    private static final String SECRET_VALUE = "\"*\"";
+
+    /**
+     * Creates a new printing scheme generator.
+     *
+     * @since v1.1.0
+     */
+    public PojoSchemeProcessor() {
+
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+            RoundEnvironment environment) {
+        TypeElement pojo = getElements().getTypeElement(
+                Pojo.class.getCanonicalName());
+        if (pojo == null) {
+            return false;
+        }
+        List<TypeElement> types = new ArrayList<TypeElement>();
+        collectTypes(ElementFilter.typesIn(environment.getRootElements()),
+                types);
+        for (TypeElement type : types) {
+            if (isEligible(type, pojo)) {
+                generate(type, pojo);
+            }
+        }
+        return false;
+    }
+
+    private void collectTypes(Collection<TypeElement> elements,
+            List<TypeElement> result) {
+        for (TypeElement element : elements) {
+            result.add(element);
+            collectTypes(ElementFilter.typesIn(element.getEnclosedElements()),
+                    result);
+        }
+    }
+
+    private boolean isEligible(TypeElement type, TypeElement pojo) {
+        if (type.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) ||
+                modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        NestingKind nesting = type.getNestingKind();
+        if (nesting == NestingKind.ANONYMOUS || nesting == NestingKind.LOCAL) {
+            return false;
+        }
+        if (nesting == NestingKind.MEMBER &&
+                !modifiers.contains(Modifier.STATIC)) {
+            // NOTE: inner classes have synthetic fields seen by reflection
+            return false;
+        }
+        Types types = getTypes();
+        TypeMirror erasure = types.erasure(type.asType());
+        if (!types.isSubtype(erasure, types.erasure(pojo.asType()))) {
+            return false;
+        }
+        TypeElement printable = getElements().getTypeElement(
+                Printable.class.getCanonicalName());
+        if (types.isSubtype(erasure, types.erasure(printable.asType()))) {
+            // NOTE: printable data structures do not print their fields
+            return false;
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, TypeElement pojo) {
+        String packageName = getElements().getPackageOf(type)
+                .getQualifiedName().toString();
+        Map<String, String> values = new LinkedHashMap<String, String>();
+        TypeElement current = type;
+        while (!current.equals(pojo)) {
+            for (VariableElement field :
+                    ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getAnnotation(HiddenField.class) != null) {
+                    continue;
+                }
+                String name = field.getSimpleName().toString();
+                String value;
+                if (field.getAnnotation(SecretField.class) != null) {
+                    value = SECRET_VALUE;
+                } else {
+                    value = getValueExpression(field, current, packageName);
+                }
+                if (value == null) {
+                    String message = String.format(
+                            "field %s is not accessible and has no getter, " +
+                            "%s is printed by reflection", name,
+                            type.getQualifiedName());
+                    note(message, type);
+                    return;
+                }
+                values.put(name, value);
+            }
+            TypeMirror superclass = current.getSuperclass();
+            if (superclass.getKind() != TypeKind.DECLARED) {
+                return;
+            }
+            current = (TypeElement) ((DeclaredType) superclass).asElement();
+        }
+        try {
+            write(type, packageName, values);
+        } catch (IOException e) {
+            String message = String.format("unable to generate scheme: %s",
+                    e.getMessage());
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    message, type);
+        }
+    }
+
+    private String getValueExpression(VariableElement field,
+            TypeElement owner, String packageName) {
+        boolean accessible = isAccessible(owner, packageName) &&
+                isAccessible(field, owner, packageName);
+        String ownerName = getTypes().erasure(owner.asType()).toString();
+        String name = field.getSimpleName().toString();
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            Object constant = field.getConstantValue();
+            if (constant != null) {
+                return getLiteral(constant);
+            }
+            return accessible ? String.format("%s.%s", ownerName, name) : null;
+        }
+        if (accessible) {
+            return String.format("((%s) pojo).%s", ownerName, name);
+        }
+        ExecutableElement getter = findGetter(field, owner, packageName);
+        return getter != null ? String.format("pojo.%s()",
+                getter.getSimpleName()) : null;
+    }
+
+    private ExecutableElement findGetter(VariableElement field,
+            TypeElement owner, String packageName) {
+        String name = field.getSimpleName().toString();
+        String suffix = Character.toUpperCase(name.charAt(0)) +
+                name.substring(1);
+        TypeMirror type = field.asType();
+        for (ExecutableElement method :
+                ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            boolean named = methodName.equals("get" + suffix) ||
+                    (type.getKind() == TypeKind.BOOLEAN &&
+                    methodName.equals("is" + suffix));
+            if (named && method.getParameters().isEmpty() &&
+                    !method.getModifiers().contains(Modifier.STATIC) &&
+                    isAccessible(method, owner, packageName) &&
+                    getTypes().isSameType(method.getReturnType(), type)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private String getLiteral(Object constant) {
+        if (constant instanceof String) {
+            return "\"" + escape((String) constant, '"') + "\"";
+        }
+        if (constant instanceof Character) {
+            return "'" + escape(constant.toString(), '\'') + "'";
+        }
+        if (constant instanceof Long) {
+            return constant + "L";
+        }
+        if (constant instanceof Byte) {
+            return "(byte) " + constant;
+        }
+        if (constant instanceof Short) {
+            return "(short) " + constant;
+        }
+        if (constant instanceof Float) {
+            Float number = (Float) constant;
+            if (number.isNaN()) {
+                return "Float.NaN";
+            }
+            if (number.isInfinite()) {
+                return number > 0 ? "Float.POSITIVE_INFINITY" :
+                        "Float.NEGATIVE_INFINITY";
+            }
+            return constant + "f";
+        }
+        if (constant instanceof Double) {
+            Double number = (Double) constant;
+            if (number.isNaN()) {
+                return "Double.NaN";
+            }
+            if (number.isInfinite()) {
+                return number > 0 ? "Double.POSITIVE_INFINITY" :
+                        "Double.NEGATIVE_INFINITY";
+            }
+        }
+        return constant.toString();
+    }
+
+    private static String escape(String text, char quote) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int index = 0; index < text.length(); index++) {
+            char c = text.charAt(index);
+            if (c == quote || c == '\\') {
+                result.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7E) {
+                result.append(String.format("\\u%04x", (int) c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private boolean isAccessible(Element member, TypeElement owner,
+            String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return getElements().getPackageOf(owner).getQualifiedName()
+                .contentEquals(packageName);
+    }
+
+    private boolean isAccessible(TypeElement type, String packageName) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            if (!isAccessible(current, (TypeElement) current, packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void write(TypeElement type, String packageName,
+            Map<String, String> values) throws IOException {
+        String binaryName = getElements().getBinaryName(type).toString();
+        String simpleName = packageName.isEmpty() ? binaryName :
+                binaryName.substring(packageName.length() + 1);
+        String schemeName = simpleName + PojoScheme.SUFFIX;
+        String typeName = getTypes().erasure(type.asType()).toString();
+        String qualifiedName = packageName.isEmpty() ? schemeName :
+                packageName + "." + schemeName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                qualifiedName, type);
+        PrintWriter out = new PrintWriter(file.openWriter());
+        try {
+            if (!packageName.isEmpty()) {
+                out.printf("package %s;%n%n", packageName);
+            }
+            out.printf("/**%n");
+            out.printf(" * Printing scheme of {@link %s}.%n", typeName);
+            out.printf(" * <p>%n");
+            out.printf(" * Generated by %s.%n", getClass().getName());
+            out.printf(" */%n");
+            out.printf("@SuppressWarnings({\"rawtypes\"})%n");
+            out.printf("public final class %s%n", schemeName);
+            out.printf("        implements %s<%s> {%n%n",
+                    PojoScheme.class.getName(), typeName);
+            out.printf("    private static final String[] names = {");
+            int index = 0;
+            for (String name : values.keySet()) {
+                out.printf(index++ > 0 ? ", \"%s\"" : "\"%s\"", name);
+            }
+            out.printf("};%n%n");
+            out.printf("    public %s() {%n%n    }%n%n", schemeName);
+            out.printf("    public int getSize() {%n");
+            out.printf("        return names.length;%n");
+            out.printf("    }%n%n");
+            out.printf("    public String getName(int index) {%n");
+            out.printf("        return names[index];%n");
+            out.printf("    }%n%n");
+            out.printf("    public Object getValue(%s pojo, int index) {%n",
+                    typeName);
+            out.printf("        switch (index) {%n");
+            index = 0;
+            for (String value : values.values()) {
+                out.printf("            case %d:%n", index++);
+                out.printf("                return %s;%n", value);
+            }
+            out.printf("            default:%n");
+            out.printf("                throw new IndexOutOfBoundsException(" +
+                    "String.valueOf(index));%n");
+            out.printf("        }%n");
+            out.printf("    }%n");
+            out.printf("}%n");
+        } finally {
+            out.close();
+        }
+    }
+
+    private Elements getElements() {
+        return processingEnv.getElementUtils();
+    }
+
+    private Types getTypes() {
+        return processingEnv.getTypeUtils();
+    }
+
+    private void note(String message, Element element) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                message, element);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoSchemeProcessorTest.java
+ * Folder:   processor/src/test/java/com/soulwarelabs/jcommons/processor
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.soulwarelabs.jcommons.Pojo;
+import com.soulwarelabs.jcommons.PojoScheme;
+
+/**
+ * Printing scheme generator unit test.
+ *
+ * @see PojoSchemeProcessor
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PojoSchemeProcessorTest {
+
+    private static final String[][] FIXTURES = {
+        {"Base",
+            "public abstract class Base extends Pojo {\n" +
+            "    protected int base = 1;\n" +
+            "    public String shadow = \"base\";\n" +
+            "    public <T> T copy() { return null; }\n" +
+            "}\n"},
+        {"Plain",
+            "public class Plain extends Base {\n" +
+            "    public static final String TYPE = \"plain\";\n" +
+            "    static int counter = 3;\n" +
+            "    public long id = 7L;\n" +
+            "    String name = \"plain\";\n" +
+            "    protected Double ratio = 0.5;\n" +
+            "    public String shadow = \"plain\";\n" +
+            "    @HiddenField public String hidden = \"hidden\";\n" +
+            "    @SecretField public String password = \"secret\";\n" +
+            "    @SecretField private String key = \"key\";\n" +
+            "    public static class Nested extends Base {\n" +
+            "        public char sign = 'x';\n" +
+            "    }\n" +
+            "}\n"},
+        {"Constants",
+            "public class Constants extends Pojo {\n" +
+            "    private static final long serialVersionUID = 1L;\n" +
+            "    private static final String LABEL = " +
+                    "\"tab\\t\\\"quoted\\\" \\\\ \\u00e9\";\n" +
+            "    private static final char QUOTE = '\\'';\n" +
+            "    private static final byte SMALL = -1;\n" +
+            "    private static final short MEDIUM = 300;\n" +
+            "    private static final float RATIO = Float.NaN;\n" +
+            "    private static final double LIMIT = " +
+                    "Double.NEGATIVE_INFINITY;\n" +
+            "    private static final double SCALE = 1e300;\n" +
+            "    private static final boolean ENABLED = true;\n" +
+            "    @HiddenField private static final int HIDDEN = 1;\n" +
+            "    public int value = 5;\n" +
+            "    public <T> T copy() { return null; }\n" +
+            "}\n"},
+        {"Account",
+            "public class Account extends Pojo {\n" +
+            "    private static final long serialVersionUID = 1L;\n" +
+            "    private String login = \"user\";\n" +
+            "    private @SecretField String password = \"secret\";\n" +
+            "    private @HiddenField String token = \"token\";\n" +
+            "    private boolean active = true;\n" +
+            "    private Long limit;\n" +
+            "    private java.util.List<String> roles =\n" +
+            "            java.util.Arrays.asList(\"reader\", \"writer\");\n" +
+            "    public String getLogin() { return login; }\n" +
+            "    public String getPassword() { return password; }\n" +
+            "    public boolean isActive() { return active; }\n" +
+            "    public Long getLimit() { return limit; }\n" +
+            "    public java.util.List<String> getRoles() { return roles; }\n" +
+            "    public <T> T copy() { return null; }\n" +
+            "}\n"},
+        {"Member",
+            "public class Member extends Account {\n" +
+            "    private String team = \"core\";\n" +
+            "    String getTeam() { return team; }\n" +
+            "}\n"},
+        {"Opaque",
+            "public class Opaque extends Pojo {\n" +
+            "    private String name = \"opaque\";\n" +
+            "    private int size = 1;\n" +
+            "    public Object getName() { return name; }\n" +
+            "    public int getSize(int scale) { return size * scale; }\n" +
+            "    public <T> T copy() { return null; }\n" +
+            "}\n"},
+        {"Locked",
+            "public class Locked extends Pojo {\n" +
+            "    private static final Object LOCK = new Object();\n" +
+            "    public int value = 1;\n" +
+            "    public <T> T copy() { return null; }\n" +
+            "}\n"}
+    };
+
+    private static final String PACKAGE = "fixtures";
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PojoSchemeProcessorTest() {
+
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        File directory = createDirectory();
+        try {
+            File sources = new File(directory, "sources");
+            File generated = new File(directory, "generated");
+            File reflected = new File(directory, "reflected");
+            List<String> files = writeFixtures(sources);
+            Assert.assertEquals(true, compile(files, generated, true));
+            Assert.assertEquals(true, compile(files, reflected, false));
+            String[] schemed = {"Plain", "Plain$Nested", "Constants",
+                    "Account", "Member"};
+            for (String name : schemed) {
+                Assert.assertEquals(name, true, hasScheme(generated, name));
+                Assert.assertEquals(print(reflected, name),
+                        print(generated, name));
+            }
+            String[] skipped = {"Base", "Opaque", "Locked"};
+            for (String name : skipped) {
+                Assert.assertEquals(name, false, hasScheme(generated, name));
+            }
+            Assert.assertEquals(print(reflected, "Opaque"),
+                    print(generated, "Opaque"));
+            Assert.assertEquals(true, print(generated, "Member").contains(
+                    "\"roles\": [\"reader\", \"writer\"]"));
+            Assert.assertEquals(false,
+                    print(generated, "Member").contains("token"));
+            Assert.assertEquals(false,
+                    print(generated, "Member").contains("secret"));
+            Assert.assertEquals(false,
+                    print(generated, "Plain").contains("hidden"));
+            Assert.assertEquals(false,
+                    print(generated, "Plain").contains("secret"));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static boolean compile(List<String> files, File output,
+            boolean processed) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        output.mkdirs();
+        List<String> arguments = new ArrayList<String>();
+        arguments.addAll(Arrays.asList("-d", output.getPath(), "-classpath",
+                getLocation(Pojo.class)));
+        if (processed) {
+            arguments.addAll(Arrays.asList("-processorpath",
+                    getLocation(PojoSchemeProcessor.class) +
+                    File.pathSeparator + getLocation(Pojo.class),
+                    "-processor", PojoSchemeProcessor.class.getName()));
+        } else {
+            arguments.add("-proc:none");
+        }
+        arguments.addAll(files);
+        return compiler.run(null, null, null,
+                arguments.toArray(new String[arguments.size()])) == 0;
+    }
+
+    private static File createDirectory() throws IOException {
+        File directory = File.createTempFile("schemes", "");
+        Assert.assertEquals(true, directory.delete());
+        Assert.assertEquals(true, directory.mkdirs());
+        return directory;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String getLocation(Class<?> type) {
+        try {
+            URL location = type.getProtectionDomain().getCodeSource()
+                    .getLocation();
+            return new File(location.toURI()).getPath();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean hasScheme(File classes, String name) {
+        String path = PACKAGE + File.separator + name + PojoScheme.SUFFIX +
+                ".class";
+        return new File(classes, path).isFile();
+    }
+
+    private static String print(File classes, String name) throws Exception {
+        ClassLoader loader = new URLClassLoader(
+                new URL[] {classes.toURI().toURL()},
+                PojoSchemeProcessorTest.class.getClassLoader());
+        Class<?> type = Class.forName(PACKAGE + "." + name, true, loader);
+        return Pojo.print(type.newInstance()).toString();
+    }
+
+    private static List<String> writeFixtures(File sources)
+            throws IOException {
+        File folder = new File(sources, PACKAGE);
+        Assert.assertEquals(true, folder.mkdirs());
+        List<String> result = new ArrayList<String>();
+        for (String[] fixture : FIXTURES) {
+            File file = new File(folder, fixture[0] + ".java");
+            Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                    "UTF-8");
+            try {
+                writer.write("package " + PACKAGE + ";\n\n");
+                writer.write("import com.soulwarelabs.jcommons.Pojo;\n");
+                writer.write("import " +
+                        "com.soulwarelabs.jcommons.namings.HiddenField;\n");
+                writer.write("import " +
+                        "com.soulwarelabs.jcommons.namings.SecretField;\n\n");
+                writer.write(fixture[1]);
+            } finally {
+                writer.close();
+            }
+            result.add(file.getPath());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     AbstractPairMap.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Base open-addressing map of key-value pairs.
+ * <p>
+ * Values are stored in a flat array of slots, keys are stored by
+ * implementations in a parallel array. Implements pair-based access, views,
+ * printing and serialization in terms of slots.
+ *
+ * @param <K> key type.
+ * @param <V> value type.
+ *
+ * @see Pair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+abstract class AbstractPairMap<K, V>
+        implements AppendablePrintable, Iterable<Pair<K, V>>, Serializable {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * Gets a table capacity sufficient for specified number of entries.
+     *
+     * @param size expected number of entries.
+     * @return table capacity (a power of two).
+     *
+     * @since v1.1.0
+     */
+    static int getCapacity(int size) {
+        int result = MIN_CAPACITY;
+        while (result < MAX_CAPACITY && getThreshold(result) < size) {
+            result <<= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of entries a table can hold before growing.
+     *
+     * @param capacity table capacity.
+     * @return the maximum number of entries.
+     *
+     * @since v1.1.0
+     */
+    static int getThreshold(int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    /**
+     * Spreads hash code bits to make linear probing less clustered.
+     *
+     * @param hash hash code.
+     * @return mixed hash code.
+     *
+     * @since v1.1.0
+     */
+    static int mix(int hash) {
+        int result = hash * 0x9E3779B9;
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * Values of the slots.
+     *
+     * @since v1.1.0
+     */
+    transient Object[] values;
+
+    /**
+     * The number of entries.
+     *
+     * @since v1.1.0
+     */
+    transient int size;
+
+    private transient Map<K, V> map;
+
+    /**
+     * Creates a new map.
+     *
+     * @since v1.1.0
+     */
+    public AbstractPairMap() {
+
+    }
+
+    /**
+     * Gets a map view of the pairs.
+     * <p>
+     * The view reads and writes through. Its entries are backed by slots
+     * and should not be used after the pairs are structurally modified.
+     * Removal via the view iterators is not supported.
+     *
+     * @return map view of the pairs.
+     *
+     * @since v1.1.0
+     */
+    public Map<K, V> asMap() {
+        if (map == null) {
+            map = new MapView();
+        }
+        return map;
+    }
+
+    /**
+     * Removes all pairs.
+     *
+     * @since v1.1.0
+     */
+    public abstract void clear();
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        AbstractPairMap<?, ?> other = (AbstractPairMap<?, ?>) object;
+        return asMap().equals(other.asMap());
+    }
+
+    /**
+     * Gets the number of pairs.
+     *
+     * @return the number of pairs.
+     *
+     * @since v1.1.0
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    /**
+     * Checks if there are no pairs.
+     *
+     * @return true if there are no pairs.
+     *
+     * @since v1.1.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets an iterator creating a new pair per entry.
+     * <p>
+     * Removal is not supported.
+     *
+     * @return pair iterator.
+     *
+     * @since v1.1.0
+     */
+    @Override
+    public Iterator<Pair<K, V>> iterator() {
+        return new SlotIterator<Pair<K, V>>() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            Pair<K, V> get(int slot) {
+                return new Pair<K, V>(getKeyAt(slot), (V) values[slot]);
+            }
+        };
+    }
+
+    @Override
+    public StringBuilder print() {
+        return Pojo.print(asMap());
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        Pojo.print(asMap(), sink);
+    }
+
+    /**
+     * Maps a key of specified pair to its value.
+     *
+     * @param pair a pair to be put.
+     * @return previously mapped value (optional).
+     * @throws NullPointerException if pair is null.
+     *
+     * @since v1.1.0
+     */
+    public V put(Pair<? extends K, ? extends V> pair) {
+        if (pair == null) {
+            throw new NullPointerException("pair is null");
+        }
+        return putEntry(pair.getKey(), pair.getValue());
+    }
+
+    /**
+     * Maps keys of specified pairs to their values.
+     * <p>
+     * Pairs with equal keys override each other in iteration order.
+     *
+     * @param pairs pairs to be put.
+     * @throws NullPointerException if pairs are null.
+     *
+     * @since v1.1.0
+     */
+    public void putAll(Iterable<? extends Pair<? extends K, ? extends V>>
+            pairs) {
+        if (pairs == null) {
+            throw new NullPointerException("pairs are null");
+        }
+        for (Pair<? extends K, ? extends V> pair : pairs) {
+            put(pair);
+        }
+    }
+
+    /**
+     * Gets a list of pairs of all keys and mapped values.
+     *
+     * @return a new list of new pairs.
+     *
+     * @since v1.1.0
+     */
+    public List<Pair<K, V>> toPairs() {
+        List<Pair<K, V>> result = new ArrayList<Pair<K, V>>(size);
+        for (Pair<K, V> pair : this) {
+            result.add(pair);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * Gets a key of a used slot.
+     *
+     * @param slot slot index.
+     * @return slot key.
+     *
+     * @since v1.1.0
+     */
+    abstract K getKeyAt(int slot);
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the number of slots.
+     *
+     * @since v1.1.0
+     */
+    abstract int getSlots();
+
+    /**
+     * Checks if a slot contains an entry.
+     *
+     * @param slot slot index.
+     * @return true if the slot is used.
+     *
+     * @since v1.1.0
+     */
+    abstract boolean isUsedAt(int slot);
+
+    /**
+     * Finds a slot of specified key.
+     *
+     * @param key a key to be found (optional).
+     * @return slot index or -1 if the key is not mapped.
+     *
+     * @since v1.1.0
+     */
+    abstract int locate(Object key);
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key mapped key (optional).
+     * @param value mapped value (optional).
+     * @return previously mapped value (optional).
+     * @throws NullPointerException if key is null and not supported.
+     *
+     * @since v1.1.0
+     */
+    abstract V putEntry(K key, V value);
+
+    /**
+     * Removes a mapping of specified key.
+     *
+     * @param key a key to be removed (optional).
+     * @return previously mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    abstract V removeEntry(Object key);
+
+    /**
+     * Removes all entries and allocates a table for specified number of
+     * entries.
+     *
+     * @param size expected number of entries.
+     *
+     * @since v1.1.0
+     */
+    abstract void reset(int size);
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream stream) throws IOException,
+            ClassNotFoundException {
+        stream.defaultReadObject();
+        int count = stream.readInt();
+        reset(count);
+        for (int index = 0; index < count; index++) {
+            K key = (K) stream.readObject();
+            putEntry(key, (V) stream.readObject());
+        }
+    }
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(size);
+        int slots = getSlots();
+        for (int slot = 0; slot < slots; slot++) {
+            if (isUsedAt(slot)) {
+                stream.writeObject(getKeyAt(slot));
+                stream.writeObject(values[slot]);
+            }
+        }
+    }
+
+    private class Entry implements Map.Entry<K, V> {
+
+        private final int slot;
+
+        public Entry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Map.Entry<?, ?>)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) object;
+            return equals(getKey(), other.getKey()) &&
+                    equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public K getKey() {
+            return getKeyAt(slot);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[slot];
+        }
+
+        @Override
+        public int hashCode() {
+            K key = getKey();
+            V value = getValue();
+            return (key != null ? key.hashCode() : 0) ^
+                    (value != null ? value.hashCode() : 0);
+        }
+
+        @Override
+        public V setValue(V value) {
+            V result = getValue();
+            values[slot] = value;
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+        private boolean equals(Object first, Object second) {
+            return first == second || (first != null && first.equals(second));
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public void clear() {
+            AbstractPairMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new SlotIterator<Map.Entry<K, V>>() {
+
+                @Override
+                Map.Entry<K, V> get(int slot) {
+                    return new Entry(slot);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class MapView extends AbstractMap<K, V> {
+
+        private final Set<Map.Entry<K, V>> entries = new EntrySet();
+
+        @Override
+        public void clear() {
+            AbstractPairMap.this.clear();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return locate(key) >= 0;
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            int slot = locate(key);
+            return slot >= 0 ? (V) values[slot] : null;
+        }
+
+        @Override
+        public V put(K key, V value) {
+            return putEntry(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return removeEntry(key);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private abstract class SlotIterator<T> implements Iterator<T> {
+
+        private int next;
+
+        public SlotIterator() {
+            next = advance(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < getSlots();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = get(next);
+            next = advance(next + 1);
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("removal by iterator");
+        }
+
+        abstract T get(int slot);
+
+        private int advance(int slot) {
+            int slots = getSlots();
+            while (slot < slots && !isUsedAt(slot)) {
+                slot++;
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     AppendablePrintable.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+
+/**
+ * Printable object writing its presentation directly into a sink.
+ * <p>
+ * Objects implementing only {@link Printable} are still printed by
+ * {@link Pojo#print(Object, Appendable)} through their string presentation.
+ *
+ * @see Appendable
+ * @see Printable
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public interface AppendablePrintable extends Printable {
+
+    /**
+     * Appends a string presentation of the object to specified sink.
+     * <p>
+     * Appended text is the same as returned by {@link #print()}.
+     *
+     * @param sink target sink.
+     * @throws IOException if error occurs while appending to the sink.
+     *
+     * @since v1.1.0
+     */
+    void printTo(Appendable sink) throws IOException;
+}
@@ -0,0 +1,222 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     AsyncHandler.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous input data processor.
+ * <p>
+ * Performs calls of an underlying handler by an executor and returns their
+ * future results immediately. The number of calls in flight is bounded:
+ * when the bound is reached, a new call blocks until one of the calls in
+ * flight completes, which makes fast callers wait for a slow handler
+ * instead of queueing tasks without limit. A started call leaves the
+ * flight once the underlying handler returns, even if its future is
+ * cancelled earlier, so interrupting a handler never lets more calls run
+ * than the bound. A call which has not started leaves the flight once its
+ * future is cancelled, so tasks dropped by an executor without being run
+ * (e.g. returned by
+ * {@link java.util.concurrent.ExecutorService#shutdownNow()}) should be
+ * cancelled.
+ * <p>
+ * Designed to be thread-safe.
+ *
+ * @param <R> result type.
+ * @param <T> input data type.
+ *
+ * @see Handler
+ * @see Handlers#async(Handler, Executor, int)
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class AsyncHandler<R, T> implements Handler<Future<R>, T> {
+
+    /**
+     * Default maximum number of calls in flight.
+     *
+     * @since v1.1.0
+     */
+    public static final int DEFAULT_CONCURRENCY = 256;
+
+    private final Executor executor;
+    private final Handler<R, T> handler;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+
+    /**
+     * Creates a new asynchronous handler.
+     *
+     * @param handler underlying handler.
+     * @param executor executor of handler calls.
+     * @param maxConcurrency maximum number of calls in flight.
+     * @throws IllegalArgumentException if concurrency is not positive.
+     * @throws NullPointerException if either handler or executor is null.
+     *
+     * @since v1.1.0
+     */
+    public AsyncHandler(Handler<R, T> handler, Executor executor,
+            int maxConcurrency) {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+        if (executor == null) {
+            throw new NullPointerException("executor is null");
+        }
+        if (maxConcurrency <= 0) {
+            String message = String.format("illegal concurrency: %d",
+                    maxConcurrency);
+            throw new IllegalArgumentException(message);
+        }
+        this.executor = executor;
+        this.handler = handler;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Gets the number of calls in flight.
+     *
+     * @return the number of calls in flight.
+     *
+     * @since v1.1.0
+     */
+    public int getActiveCalls() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Gets the maximum number of calls in flight.
+     *
+     * @return the maximum number of calls in flight.
+     *
+     * @since v1.1.0
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Submits input data processing, waiting while the maximum number of
+     * calls is in flight.
+     *
+     * @param data input data to be processed.
+     * @return future processing result.
+     * @throws RejectedExecutionException if the executor rejects the call
+     * or the current thread is interrupted while waiting.
+     *
+     * @since v1.1.0
+     */
+    @Override
+    public Future<R> call(T data) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("interrupted while waiting");
+        }
+        return submit(data);
+    }
+
+    /**
+     * Submits input data processing unless the maximum number of calls is
+     * in flight.
+     *
+     * @param data input data to be processed.
+     * @return future processing result or null if the call is not
+     * submitted.
+     * @throws RejectedExecutionException if the executor rejects the call.
+     *
+     * @since v1.1.0
+     */
+    public Future<R> tryCall(T data) {
+        if (!permits.tryAcquire()) {
+            return null;
+        }
+        return submit(data);
+    }
+
+    private Future<R> submit(T data) {
+        Task result = new Task(data);
+        try {
+            executor.execute(result);
+        } catch (RuntimeException e) {
+            result.cancel(false);
+            throw e;
+        }
+        return result;
+    }
+
+    private class Task extends FutureTask<R> {
+
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int RELEASED = 2;
+
+        private final AtomicInteger state;
+
+        public Task(final T data) {
+            super(new Callable<R>() {
+
+                @Override
+                public R call() {
+                    return handler.call(data);
+                }
+            });
+            this.state = new AtomicInteger(NEW);
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                state.set(RELEASED);
+                permits.release();
+            }
+        }
+
+        @Override
+        protected void done() {
+            // NOTE: a running task releases its permit once it returns
+            if (state.compareAndSet(NEW, RELEASED)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     AtomicIntBox.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Atomic integer value container.
+ * <p>
+ * Updates a volatile field in place by a shared field updater, so no extra
+ * atomic object is allocated per container. Logically comparable by the
+ * identity only, since the value may change at any moment.
+ * <p>
+ * Designed to be thread-safe.
+ *
+ * @see AppendablePrintable
+ * @see IntBox
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class AtomicIntBox implements AppendablePrintable, Serializable {
+
+    private static final AtomicIntegerFieldUpdater<AtomicIntBox> UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(AtomicIntBox.class, "value");
+
+    private volatile int value;
+
+    /**
+     * Creates a new value container.
+     *
+     * @since v1.1.0
+     */
+    public AtomicIntBox() {
+
+    }
+
+    /**
+     * Creates a new instance of value container.
+     *
+     * @param value contained value.
+     *
+     * @since v1.1.0
+     */
+    public AtomicIntBox(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets a value contained inside.
+     *
+     * @return contained value.
+     *
+     * @since v1.1.0
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Sets a new value to be contained inside.
+     *
+     * @param value contained value.
+     *
+     * @since v1.1.0
+     */
+    public void setValue(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Atomically adds a delta to the contained value.
+     *
+     * @param delta value delta.
+     * @return updated value.
+     *
+     * @since v1.1.0
+     */
+    public int add(int delta) {
+        return UPDATER.addAndGet(this, delta);
+    }
+
+    /**
+     * Atomically sets a new value if the current one equals to the expected.
+     *
+     * @param expected expected value.
+     * @param value new value.
+     * @return true if the value has been updated.
+     *
+     * @since v1.1.0
+     */
+    public boolean compareAndSet(int expected, int value) {
+        return UPDATER.compareAndSet(this, expected, value);
+    }
+
+    /**
+     * Atomically decrements the contained value.
+     *
+     * @return updated value.
+     *
+     * @since v1.1.0
+     */
+    public int decrement() {
+        return UPDATER.decrementAndGet(this);
+    }
+
+    /**
+     * Atomically sets a new value and gets the previous one.
+     *
+     * @param value new value.
+     * @return previous value.
+     *
+     * @since v1.1.0
+     */
+    public int getAndSet(int value) {
+        return UPDATER.getAndSet(this, value);
+    }
+
+    /**
+     * Atomically increments the contained value.
+     *
+     * @return updated value.
+     *
+     * @since v1.1.0
+     */
+    public int increment() {
+        return UPDATER.incrementAndGet(this);
+    }
+
+    @Override
+    public StringBuilder print() {
+        return Pojo.print(value);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        Pojo.print(value, sink);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     BatchingHandler.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Batching input data processor.
+ * <p>
+ * Coalesces concurrent calls into bulk calls of an underlying handler. The
+ * first caller of a batch becomes its leader: it waits until the batch is
+ * full or the maximum delay expires, then performs the bulk call on behalf
+ * of every caller of the batch, while the other callers wait for their
+ * results. A bulk call is expected to return results in the order of the
+ * input data. If it fails, every caller of the batch gets the same failure.
+ * <p>
+ * Calls never wait longer than the maximum delay before their batch is
+ * performed. Batches are performed concurrently with collecting the next
+ * ones.
+ * <p>
+ * Designed to be thread-safe.
+ *
+ * @param <R> result type.
+ * @param <T> input data type.
+ *
+ * @see Handler
+ * @see Handlers#batching(Handler, int, long, TimeUnit)
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class BatchingHandler<R, T> implements Handler<R, T> {
+
+    private final Handler<List<R>, List<T>> handler;
+    private final Lock lock;
+    private final long maxDelay;
+    private final int maxSize;
+    private Batch current;
+
+    /**
+     * Creates a new batching handler.
+     *
+     * @param handler underlying bulk handler.
+     * @param maxSize maximum number of calls in a batch.
+     * @param maxDelay maximum delay of a batch.
+     * @param unit delay time unit.
+     * @throws IllegalArgumentException if either size is not positive or
+     * delay is negative.
+     * @throws NullPointerException if either handler or unit is null.
+     *
+     * @since v1.1.0
+     */
+    public BatchingHandler(Handler<List<R>, List<T>> handler, int maxSize,
+            long maxDelay, TimeUnit unit) {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit is null");
+        }
+        if (maxSize <= 0) {
+            String message = String.format("illegal size: %d", maxSize);
+            throw new IllegalArgumentException(message);
+        }
+        if (maxDelay < 0) {
+            String message = String.format("illegal delay: %d", maxDelay);
+            throw new IllegalArgumentException(message);
+        }
+        this.handler = handler;
+        this.lock = new ReentrantLock();
+        this.maxDelay = unit.toNanos(maxDelay);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Performs input data processing as a part of a batch.
+     *
+     * @param data input data to be processed.
+     * @return processing result.
+     * @throws IllegalStateException if the bulk handler returns a wrong
+     * number of results.
+     * @throws RuntimeException if error occurs while processing the batch.
+     *
+     * @since v1.1.0
+     */
+    @Override
+    public R call(T data) {
+        Batch batch;
+        int index;
+        lock.lock();
+        try {
+            batch = current;
+            boolean leader = batch == null;
+            if (leader) {
+                batch = new Batch();
+                current = batch;
+            }
+            index = batch.inputs.size();
+            batch.inputs.add(data);
+            if (batch.inputs.size() == maxSize) {
+                current = null;
+                batch.filled.signal();
+            }
+            if (!leader) {
+                while (!batch.completed) {
+                    batch.done.awaitUninterruptibly();
+                }
+                return batch.getResult(index);
+            }
+            await(batch);
+        } finally {
+            lock.unlock();
+        }
+        perform(batch);
+        return batch.getResult(index);
+    }
+
+    /**
+     * Gets the maximum delay of a batch.
+     *
+     * @param unit delay time unit.
+     * @return maximum delay.
+     *
+     * @since v1.1.0
+     */
+    public long getMaxDelay(TimeUnit unit) {
+        return unit.convert(maxDelay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the maximum number of calls in a batch.
+     *
+     * @return maximum number of calls.
+     *
+     * @since v1.1.0
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void await(Batch batch) {
+        long remaining = maxDelay;
+        while (current == batch) {
+            if (remaining <= 0) {
+                current = null;
+                break;
+            }
+            try {
+                remaining = batch.filled.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                // NOTE: the batch is performed immediately on interruption
+                Thread.currentThread().interrupt();
+                remaining = 0;
+            }
+        }
+    }
+
+    private void perform(Batch batch) {
+        List<R> results = null;
+        Throwable failure = null;
+        try {
+            results = handler.call(batch.inputs);
+            if (results == null || results.size() != batch.inputs.size()) {
+                String message = String.format("illegal results: %d of %d",
+                        results != null ? results.size() : 0,
+                        batch.inputs.size());
+                throw new IllegalStateException(message);
+            }
+        } catch (Throwable e) {
+            // NOTE: bulk handler may throw checked exceptions sneakily
+            failure = e;
+        }
+        lock.lock();
+        try {
+            batch.results = results;
+            batch.failure = failure;
+            batch.completed = true;
+            batch.done.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private class Batch {
+
+        private final Condition done = lock.newCondition();
+        private final Condition filled = lock.newCondition();
+        private final List<T> inputs = new ArrayList<T>();
+        private boolean completed;
+        private Throwable failure;
+        private List<R> results;
+
+        public R getResult(int index) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new RuntimeException(failure);
+            }
+            return results.get(index);
+        }
+    }
+}
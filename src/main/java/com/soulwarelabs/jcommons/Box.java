@@ -4,7 +4,7 @@
  *
  * File:     Box.java
  * Folder:   src/main/java/com/soulwarelabs/jcommons
- * Revision: 1.06, 30 August 2014
+ * Revision: 1.08, 17 October 2026
  * Created:  10 February 2014
  * Authors:  Ilya Gubarev
  *
@@ -25,6 +25,7 @@
  */
 package com.soulwarelabs.jcommons;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -34,16 +35,19 @@ import java.io.Serializable;
  *
  * @param <T> value type.
  *
- * @see Printable
+ * @see AppendablePrintable
+ * @see Freezable
  *
  * @since v1.0.0
  *
  * @author Ilya Gubarev
- * @version 30 August 2014
+ * @version 17 October 2026
  */
-public class Box<T> implements Printable, Serializable {
+public class Box<T> implements AppendablePrintable, Freezable, Serializable {
 
     private T value;
+    private boolean frozen;
+    private transient int hash;
 
     /**
      * Creates a new value container.
@@ -80,15 +84,22 @@ public class Box<T> implements Printable, Serializable {
      * Sets a new value to be contained inside.
      *
      * @param value contained value.
+     * @throws UnsupportedOperationException if the container is frozen.
      *
      * @since v1.0.0
      */
     public void setValue(T value) {
+        if (frozen) {
+            throw new UnsupportedOperationException("box is frozen");
+        }
         this.value = value;
     }
 
     @Override
     public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
         if (object == null) {
             return false;
         }
@@ -103,10 +114,27 @@ public class Box<T> implements Printable, Serializable {
         return true;
     }
 
+    @Override
+    public Box<T> freeze() {
+        frozen = true;
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     @Override
     public int hashCode() {
+        if (frozen && hash != 0) {
+            return hash;
+        }
         int result = 7;
         result = 67 * result + (value != null ? value.hashCode() : 0);
+        if (frozen) {
+            hash = result;
+        }
         return result;
     }
 
@@ -114,4 +142,9 @@ public class Box<T> implements Printable, Serializable {
     public StringBuilder print() {
         return Pojo.print(value);
     }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        Pojo.print(value, sink);
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     Freezable.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+/**
+ * Object, which can be made unmodifiable.
+ * <p>
+ * A frozen object rejects any modifications with
+ * {@link UnsupportedOperationException} and caches its hash code, so it can
+ * be safely shared and used as a hash map key. Freezing is shallow: values
+ * referenced by a frozen object are expected to be immutable themselves.
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public interface Freezable {
+
+    /**
+     * Prohibits any further modifications of the object.
+     *
+     * @return the same object.
+     *
+     * @since v1.1.0
+     */
+    Freezable freeze();
+
+    /**
+     * Gets the object modifiability status.
+     *
+     * @return true if the object rejects modifications.
+     *
+     * @since v1.1.0
+     */
+    boolean isFrozen();
+}
@@ -0,0 +1,172 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     Handlers.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Input data processor utilities.
+ *
+ * @see Handler
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public final class Handlers {
+
+    /**
+     * Creates an asynchronous handler using a shared executor.
+     * <p>
+     * The shared executor runs calls by daemon threads, which are created
+     * on demand and reused, so the number of its threads follows the number
+     * of calls in flight.
+     *
+     * @param <R> result type.
+     * @param <T> input data type.
+     * @param handler underlying handler.
+     * @return asynchronous handler.
+     * @throws NullPointerException if handler is null.
+     *
+     * @see AsyncHandler#DEFAULT_CONCURRENCY
+     *
+     * @since v1.1.0
+     */
+    public static <R, T> AsyncHandler<R, T> async(Handler<R, T> handler) {
+        return async(handler, AsyncHandler.DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Creates an asynchronous handler using a shared executor.
+     *
+     * @param <R> result type.
+     * @param <T> input data type.
+     * @param handler underlying handler.
+     * @param maxConcurrency maximum number of calls in flight.
+     * @return asynchronous handler.
+     * @throws IllegalArgumentException if concurrency is not positive.
+     * @throws NullPointerException if handler is null.
+     *
+     * @see #async(Handler)
+     *
+     * @since v1.1.0
+     */
+    public static <R, T> AsyncHandler<R, T> async(Handler<R, T> handler,
+            int maxConcurrency) {
+        return async(handler, SharedExecutor.INSTANCE, maxConcurrency);
+    }
+
+    /**
+     * Creates an asynchronous handler.
+     *
+     * @param <R> result type.
+     * @param <T> input data type.
+     * @param handler underlying handler.
+     * @param executor executor of handler calls.
+     * @return asynchronous handler.
+     * @throws NullPointerException if either handler or executor is null.
+     *
+     * @see AsyncHandler#DEFAULT_CONCURRENCY
+     *
+     * @since v1.1.0
+     */
+    public static <R, T> AsyncHandler<R, T> async(Handler<R, T> handler,
+            Executor executor) {
+        return async(handler, executor, AsyncHandler.DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Creates an asynchronous handler.
+     *
+     * @param <R> result type.
+     * @param <T> input data type.
+     * @param handler underlying handler.
+     * @param executor executor of handler calls.
+     * @param maxConcurrency maximum number of calls in flight.
+     * @return asynchronous handler.
+     * @throws IllegalArgumentException if concurrency is not positive.
+     * @throws NullPointerException if either handler or executor is null.
+     *
+     * @since v1.1.0
+     */
+    public static <R, T> AsyncHandler<R, T> async(Handler<R, T> handler,
+            Executor executor, int maxConcurrency) {
+        return new AsyncHandler<R, T>(handler, executor, maxConcurrency);
+    }
+
+    /**
+     * Creates a batching handler.
+     *
+     * @param <R> result type.
+     * @param <T> input data type.
+     * @param handler underlying bulk handler.
+     * @param maxSize maximum number of calls in a batch.
+     * @param maxDelay maximum delay of a batch.
+     * @param unit delay time unit.
+     * @return batching handler.
+     * @throws IllegalArgumentException if either size is not positive or
+     * delay is negative.
+     * @throws NullPointerException if either handler or unit is null.
+     *
+     * @see BatchingHandler
+     *
+     * @since v1.1.0
+     */
+    public static <R, T> BatchingHandler<R, T> batching(
+            Handler<List<R>, List<T>> handler, int maxSize, long maxDelay,
+            TimeUnit unit) {
+        return new BatchingHandler<R, T>(handler, maxSize, maxDelay, unit);
+    }
+
+    private Handlers() {
+
+    }
+
+    private static class SharedExecutor {
+
+        public static final ExecutorService INSTANCE =
+                Executors.newCachedThreadPool(new ThreadFactory() {
+
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable task) {
+                        String name = String.format("jcommons-handler-%d",
+                                count.incrementAndGet());
+                        Thread result = new Thread(task, name);
+                        result.setDaemon(true);
+                        return result;
+                    }
+                });
+    }
+}
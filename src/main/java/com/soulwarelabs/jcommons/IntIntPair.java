@@ -0,0 +1,185 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     IntIntPair.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Integer key-value container.
+ * <p>
+ * A primitive counterpart of {@link Pair}, which stores unboxed numbers.
+ * Designed to be logically comparable by the key, printed the same way as
+ * a pair containing the same key and value.
+ *
+ * @see AppendablePrintable
+ * @see Pair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class IntIntPair implements AppendablePrintable, Serializable {
+
+    private int key;
+    private int value;
+
+    /**
+     * Creates a key-value container.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPair() {
+
+    }
+
+    /**
+     * Creates a new instance of container.
+     *
+     * @param key contained key.
+     * @param value contained value.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPair(int key, int value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Creates a new instance of container with a key and a value of
+     * specified pair.
+     *
+     * @param pair source pair.
+     * @throws NullPointerException if pair or any of its parts is null.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPair(Pair<Integer, Integer> pair) {
+        if (pair == null) {
+            throw new NullPointerException("pair is null");
+        }
+        if (pair.getKey() == null) {
+            throw new NullPointerException("key is null");
+        }
+        if (pair.getValue() == null) {
+            throw new NullPointerException("value is null");
+        }
+        this.key = pair.getKey();
+        this.value = pair.getValue();
+    }
+
+    /**
+     * Gets a key contained inside.
+     *
+     * @return contained key.
+     *
+     * @since v1.1.0
+     */
+    public int getKey() {
+        return key;
+    }
+
+    /**
+     * Sets a new key to be contained inside.
+     *
+     * @param key contained key.
+     *
+     * @since v1.1.0
+     */
+    public void setKey(int key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets a value contained inside.
+     *
+     * @return contained value.
+     *
+     * @since v1.1.0
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Sets a new value to be contained inside.
+     *
+     * @param value contained value.
+     *
+     * @since v1.1.0
+     */
+    public void setValue(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        IntIntPair other = (IntIntPair) object;
+        if (key != other.key) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 5;
+        result = 67 * result + key;
+        return result;
+    }
+
+    @Override
+    public StringBuilder print() {
+        return PojoPrinter.print(this);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        PojoPrinter.printEntry(key, value, sink);
+    }
+
+    /**
+     * Gets a boxed presentation of the pair.
+     *
+     * @return a new pair.
+     *
+     * @since v1.1.0
+     */
+    public Pair<Integer, Integer> toPair() {
+        return new Pair<Integer, Integer>(key, value);
+    }
+}
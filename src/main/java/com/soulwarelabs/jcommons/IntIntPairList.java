@@ -0,0 +1,273 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     IntIntPairList.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Packed list of integer key-value pairs.
+ * <p>
+ * Every pair is packed into a single long integer of a flat array, so
+ * pairs are scanned without indirection and sorted by a primitive sort.
+ * Pairs are created on demand only.
+ * <p>
+ * Designed to be used by a single thread.
+ *
+ * @see IntIntPair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class IntIntPairList implements Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private transient long[] pairs;
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPairList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list.
+     *
+     * @param capacity initial capacity.
+     * @throws IllegalArgumentException if capacity is negative.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPairList(int capacity) {
+        if (capacity < 0) {
+            String message = String.format("illegal capacity: %d", capacity);
+            throw new IllegalArgumentException(message);
+        }
+        pairs = new long[capacity];
+    }
+
+    /**
+     * Appends a pair.
+     *
+     * @param key pair key.
+     * @param value pair value.
+     *
+     * @since v1.1.0
+     */
+    public void add(int key, int value) {
+        if (size == pairs.length) {
+            long[] extended = new long[Math.max(size * 2, DEFAULT_CAPACITY)];
+            System.arraycopy(pairs, 0, extended, 0, size);
+            pairs = extended;
+        }
+        pairs[size++] = pack(key, value);
+    }
+
+    /**
+     * Appends a pair.
+     *
+     * @param pair a pair to be appended.
+     * @throws NullPointerException if pair is null.
+     *
+     * @since v1.1.0
+     */
+    public void add(IntIntPair pair) {
+        if (pair == null) {
+            throw new NullPointerException("pair is null");
+        }
+        add(pair.getKey(), pair.getValue());
+    }
+
+    /**
+     * Removes all pairs.
+     *
+     * @since v1.1.0
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets a pair at specified position.
+     *
+     * @param index pair position.
+     * @return a new pair.
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPair get(int index) {
+        checkIndex(index);
+        return new IntIntPair(getKey(pairs[index]), getValue(pairs[index]));
+    }
+
+    /**
+     * Gets a key of a pair at specified position.
+     *
+     * @param index pair position.
+     * @return pair key.
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    public int getKey(int index) {
+        checkIndex(index);
+        return getKey(pairs[index]);
+    }
+
+    /**
+     * Gets the number of pairs.
+     *
+     * @return the number of pairs.
+     *
+     * @since v1.1.0
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets a value of a pair at specified position.
+     *
+     * @param index pair position.
+     * @return pair value.
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    public int getValue(int index) {
+        checkIndex(index);
+        return getValue(pairs[index]);
+    }
+
+    /**
+     * Checks if there are no pairs.
+     *
+     * @return true if there are no pairs.
+     *
+     * @since v1.1.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the first pair with specified key in a sorted list.
+     *
+     * @param key a key to be found.
+     * @return position of the pair if found, (-(insertion point) - 1)
+     * otherwise.
+     *
+     * @see #sort()
+     *
+     * @since v1.1.0
+     */
+    public int search(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getKey(pairs[middle]) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low < size && getKey(pairs[low]) == key) {
+            return low;
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Sets a value of a pair at specified position.
+     *
+     * @param index pair position.
+     * @param value pair value.
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    public void setValue(int index, int value) {
+        checkIndex(index);
+        pairs[index] = pack(getKey(pairs[index]), value);
+    }
+
+    /**
+     * Sorts the pairs by keys, then pairs with equal keys by values.
+     *
+     * @since v1.1.0
+     */
+    public void sort() {
+        // NOTE: packed order is the same as the order of keys and values
+        Arrays.sort(pairs, 0, size);
+    }
+
+    private static int getKey(long pair) {
+        return (int) (pair >> 32);
+    }
+
+    private static int getValue(long pair) {
+        return (int) pair ^ Integer.MIN_VALUE;
+    }
+
+    private static long pack(int key, int value) {
+        return ((long) key << 32) | ((value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            String message = String.format("illegal index: %d", index);
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException,
+            ClassNotFoundException {
+        stream.defaultReadObject();
+        pairs = new long[size];
+        for (int index = 0; index < size; index++) {
+            pairs[index] = stream.readLong();
+        }
+    }
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        for (int index = 0; index < size; index++) {
+            stream.writeLong(pairs[index]);
+        }
+    }
+}
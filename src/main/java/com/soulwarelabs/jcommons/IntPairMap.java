@@ -0,0 +1,304 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     IntPairMap.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.Arrays;
+
+/**
+ * Flat integer key-value pair map.
+ * <p>
+ * A primitive counterpart of {@link PairMap}, which stores keys unboxed.
+ * Methods taking primitive keys neither box nor allocate, standard map
+ * access is provided by a boxing view.
+ * <p>
+ * Designed to be used by a single thread.
+ *
+ * @param <V> value type.
+ *
+ * @see PairMap
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class IntPairMap<V> extends AbstractPairMap<Integer, V> {
+
+    private transient int[] keys;
+    private transient int threshold;
+    private transient boolean zero;
+
+    /**
+     * Creates a new empty map.
+     *
+     * @since v1.1.0
+     */
+    public IntPairMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a new empty map.
+     *
+     * @param size expected number of entries.
+     * @throws IllegalArgumentException if size is negative.
+     *
+     * @since v1.1.0
+     */
+    public IntPairMap(int size) {
+        if (size < 0) {
+            String message = String.format("illegal size: %d", size);
+            throw new IllegalArgumentException(message);
+        }
+        reset(size);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        zero = false;
+        size = 0;
+    }
+
+    /**
+     * Checks if specified key is mapped.
+     *
+     * @param key a key to be found.
+     * @return true if the key is mapped.
+     *
+     * @since v1.1.0
+     */
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets a value mapped to specified key.
+     *
+     * @param key a key to be found.
+     * @return mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int slot = indexOf(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /**
+     * Gets a pair of specified key and the value mapped to it.
+     *
+     * @param key a key to be found.
+     * @return a new pair (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public Pair<Integer, V> getPair(int key) {
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        return new Pair<Integer, V>(key, (V) values[slot]);
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key mapped key.
+     * @param value mapped value (optional).
+     * @return previously mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == 0) {
+            int slot = keys.length;
+            V result = (V) values[slot];
+            values[slot] = value;
+            if (!zero) {
+                zero = true;
+                size++;
+            }
+            return result;
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            V result = (V) values[slot];
+            values[slot] = value;
+            return result;
+        }
+        if (size >= threshold) {
+            grow();
+            slot = find(key);
+        }
+        slot = -slot - 1;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes a mapping of specified key.
+     *
+     * @param key a key to be removed.
+     * @return previously mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = indexOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V result = (V) values[slot];
+        if (slot == keys.length) {
+            values[slot] = null;
+            zero = false;
+        } else {
+            delete(slot);
+        }
+        size--;
+        return result;
+    }
+
+    @Override
+    Integer getKeyAt(int slot) {
+        return slot == keys.length ? 0 : keys[slot];
+    }
+
+    @Override
+    int getSlots() {
+        return keys.length + 1;
+    }
+
+    @Override
+    boolean isUsedAt(int slot) {
+        return slot == keys.length ? zero : keys[slot] != 0;
+    }
+
+    @Override
+    int locate(Object key) {
+        if (!(key instanceof Integer)) {
+            return -1;
+        }
+        return indexOf(((Integer) key).intValue());
+    }
+
+    @Override
+    V putEntry(Integer key, V value) {
+        if (key == null) {
+            throw new NullPointerException("key is null");
+        }
+        return put(key.intValue(), value);
+    }
+
+    @Override
+    V removeEntry(Object key) {
+        if (!(key instanceof Integer)) {
+            return null;
+        }
+        return remove(((Integer) key).intValue());
+    }
+
+    @Override
+    void reset(int size) {
+        int capacity = getCapacity(size);
+        keys = new int[capacity];
+        // NOTE: the last value slot is reserved for zero key
+        values = new Object[capacity + 1];
+        threshold = getThreshold(capacity);
+        zero = false;
+        this.size = 0;
+    }
+
+    private static int hash(int key) {
+        return mix(key);
+    }
+
+    private void delete(int slot) {
+        // NOTE: backward shift keeps probe chains unbroken without tombstones
+        int mask = keys.length - 1;
+        int free = slot;
+        int index = (slot + 1) & mask;
+        while (keys[index] != 0) {
+            int home = hash(keys[index]) & mask;
+            if (((index - home) & mask) >= ((index - free) & mask)) {
+                keys[free] = keys[index];
+                values[free] = values[index];
+                free = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[free] = 0;
+        values[free] = null;
+    }
+
+    private int find(int key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (true) {
+            int current = keys[index];
+            if (current == 0) {
+                return -index - 1;
+            }
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int capacity = oldKeys.length << 1;
+        keys = new int[capacity];
+        values = new Object[capacity + 1];
+        values[capacity] = oldValues[oldKeys.length];
+        threshold = getThreshold(capacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != 0) {
+                int index = -find(oldKeys[slot]) - 1;
+                keys[index] = oldKeys[slot];
+                values[index] = oldValues[slot];
+            }
+        }
+    }
+
+    private int indexOf(int key) {
+        if (key == 0) {
+            return zero ? keys.length : -1;
+        }
+        int result = find(key);
+        return result >= 0 ? result : -1;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     LongBox.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Long integer value container.
+ * <p>
+ * A primitive counterpart of {@link Box}, which updates the value without
+ * boxing. Designed to be logically comparable by the value, printed the
+ * same way as a box containing the same value.
+ *
+ * @see AppendablePrintable
+ * @see Box
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class LongBox implements AppendablePrintable, Serializable {
+
+    private long value;
+
+    /**
+     * Creates a new value container.
+     *
+     * @since v1.1.0
+     */
+    public LongBox() {
+
+    }
+
+    /**
+     * Creates a new instance of value container.
+     *
+     * @param value contained value.
+     *
+     * @since v1.1.0
+     */
+    public LongBox(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets a value contained inside.
+     *
+     * @return contained value.
+     *
+     * @since v1.1.0
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Sets a new value to be contained inside.
+     *
+     * @param value contained value.
+     *
+     * @since v1.1.0
+     */
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Adds a delta to the contained value.
+     *
+     * @param delta value delta.
+     * @return updated value.
+     *
+     * @since v1.1.0
+     */
+    public long add(long delta) {
+        return value += delta;
+    }
+
+    /**
+     * Decrements the contained value.
+     *
+     * @return updated value.
+     *
+     * @since v1.1.0
+     */
+    public long decrement() {
+        return --value;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        LongBox other = (LongBox) object;
+        if (value != other.value) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 7;
+        result = 67 * result + (int) (value ^ (value >>> 32));
+        return result;
+    }
+
+    /**
+     * Increments the contained value.
+     *
+     * @return updated value.
+     *
+     * @since v1.1.0
+     */
+    public long increment() {
+        return ++value;
+    }
+
+    @Override
+    public StringBuilder print() {
+        return Pojo.print(value);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        Pojo.print(value, sink);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     LongObjPair.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Long integer key-value container.
+ * <p>
+ * A primitive counterpart of {@link Pair}, which stores unboxed numbers.
+ * Designed to be logically comparable by the key, printed the same way as
+ * a pair containing the same key and value.
+ *
+ * @param <V> value type.
+ *
+ * @see AppendablePrintable
+ * @see Pair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class LongObjPair<V> implements AppendablePrintable, Serializable {
+
+    private long key;
+    private V value;
+
+    /**
+     * Creates a key-value container.
+     *
+     * @since v1.1.0
+     */
+    public LongObjPair() {
+
+    }
+
+    /**
+     * Creates a new instance of container.
+     *
+     * @param key contained key.
+     * @param value contained value (optional).
+     *
+     * @since v1.1.0
+     */
+    public LongObjPair(long key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Creates a new instance of container with a key and a value of
+     * specified pair.
+     *
+     * @param pair source pair.
+     * @throws NullPointerException if pair or its key is null.
+     *
+     * @since v1.1.0
+     */
+    public LongObjPair(Pair<Long, V> pair) {
+        if (pair == null) {
+            throw new NullPointerException("pair is null");
+        }
+        if (pair.getKey() == null) {
+            throw new NullPointerException("key is null");
+        }
+        this.key = pair.getKey();
+        this.value = pair.getValue();
+    }
+
+    /**
+     * Gets a key contained inside.
+     *
+     * @return contained key.
+     *
+     * @since v1.1.0
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Sets a new key to be contained inside.
+     *
+     * @param key contained key.
+     *
+     * @since v1.1.0
+     */
+    public void setKey(long key) {
+        this.key = key;
+    }
+
+    /**
+     * Gets a value contained inside.
+     *
+     * @return contained value (optional).
+     *
+     * @since v1.1.0
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * Sets a new value to be contained inside.
+     *
+     * @param value contained value (optional).
+     *
+     * @since v1.1.0
+     */
+    public void setValue(V value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        LongObjPair<?> other = (LongObjPair<?>) object;
+        if (key != other.key) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 5;
+        result = 67 * result + (int) (key ^ (key >>> 32));
+        return result;
+    }
+
+    @Override
+    public StringBuilder print() {
+        return PojoPrinter.print(this);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        PojoPrinter.printEntry(key, value, sink);
+    }
+
+    /**
+     * Gets a boxed presentation of the pair.
+     *
+     * @return a new pair.
+     *
+     * @since v1.1.0
+     */
+    public Pair<Long, V> toPair() {
+        return new Pair<Long, V>(key, value);
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     LongObjPairList.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Packed list of long integer key-value pairs.
+ * <p>
+ * Keys and values are stored in two parallel flat arrays, so keys are
+ * scanned and sorted without indirection. Pairs are created on demand
+ * only.
+ * <p>
+ * Designed to be used by a single thread.
+ *
+ * @param <V> value type.
+ *
+ * @see LongObjPair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class LongObjPairList<V> implements Serializable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private transient long[] keys;
+    private transient Object[] values;
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     *
+     * @since v1.1.0
+     */
+    public LongObjPairList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list.
+     *
+     * @param capacity initial capacity.
+     * @throws IllegalArgumentException if capacity is negative.
+     *
+     * @since v1.1.0
+     */
+    public LongObjPairList(int capacity) {
+        if (capacity < 0) {
+            String message = String.format("illegal capacity: %d", capacity);
+            throw new IllegalArgumentException(message);
+        }
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * Appends a pair.
+     *
+     * @param key pair key.
+     * @param value pair value (optional).
+     *
+     * @since v1.1.0
+     */
+    public void add(long key, V value) {
+        if (size == keys.length) {
+            int capacity = Math.max(size * 2, DEFAULT_CAPACITY);
+            long[] extendedKeys = new long[capacity];
+            System.arraycopy(keys, 0, extendedKeys, 0, size);
+            keys = extendedKeys;
+            Object[] extendedValues = new Object[capacity];
+            System.arraycopy(values, 0, extendedValues, 0, size);
+            values = extendedValues;
+        }
+        keys[size] = key;
+        values[size++] = value;
+    }
+
+    /**
+     * Appends a pair.
+     *
+     * @param pair a pair to be appended.
+     * @throws NullPointerException if pair is null.
+     *
+     * @since v1.1.0
+     */
+    public void add(LongObjPair<? extends V> pair) {
+        if (pair == null) {
+            throw new NullPointerException("pair is null");
+        }
+        add(pair.getKey(), pair.getValue());
+    }
+
+    /**
+     * Removes all pairs.
+     *
+     * @since v1.1.0
+     */
+    public void clear() {
+        for (int index = 0; index < size; index++) {
+            values[index] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Gets a pair at specified position.
+     *
+     * @param index pair position.
+     * @return a new pair.
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public LongObjPair<V> get(int index) {
+        checkIndex(index);
+        return new LongObjPair<V>(keys[index], (V) values[index]);
+    }
+
+    /**
+     * Gets a key of a pair at specified position.
+     *
+     * @param index pair position.
+     * @return pair key.
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    public long getKey(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    /**
+     * Gets the number of pairs.
+     *
+     * @return the number of pairs.
+     *
+     * @since v1.1.0
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets a value of a pair at specified position.
+     *
+     * @param index pair position.
+     * @return pair value (optional).
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V getValue(int index) {
+        checkIndex(index);
+        return (V) values[index];
+    }
+
+    /**
+     * Checks if there are no pairs.
+     *
+     * @return true if there are no pairs.
+     *
+     * @since v1.1.0
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the first pair with specified key in a sorted list.
+     *
+     * @param key a key to be found.
+     * @return position of the pair if found, (-(insertion point) - 1)
+     * otherwise.
+     *
+     * @see #sort()
+     *
+     * @since v1.1.0
+     */
+    public int search(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low < size && keys[low] == key) {
+            return low;
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Sets a value of a pair at specified position.
+     *
+     * @param index pair position.
+     * @param value pair value (optional).
+     * @throws IndexOutOfBoundsException if index is illegal.
+     *
+     * @since v1.1.0
+     */
+    public void setValue(int index, V value) {
+        checkIndex(index);
+        values[index] = value;
+    }
+
+    /**
+     * Sorts the pairs by keys.
+     * <p>
+     * The sort is stable: pairs with equal keys keep their order.
+     *
+     * @since v1.1.0
+     */
+    public void sort() {
+        long[] sourceKeys = keys;
+        Object[] sourceValues = values;
+        long[] targetKeys = new long[size];
+        Object[] targetValues = new Object[size];
+        for (int width = 1; width < size; width <<= 1) {
+            for (int low = 0; low < size; low += width << 1) {
+                int middle = Math.min(low + width, size);
+                int high = Math.min(middle + width, size);
+                merge(sourceKeys, sourceValues, targetKeys, targetValues, low,
+                        middle, high);
+            }
+            long[] keyBuffer = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = keyBuffer;
+            Object[] valueBuffer = sourceValues;
+            sourceValues = targetValues;
+            targetValues = valueBuffer;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, size);
+            System.arraycopy(sourceValues, 0, values, 0, size);
+        }
+    }
+
+    private static void merge(long[] sourceKeys, Object[] sourceValues,
+            long[] targetKeys, Object[] targetValues, int low, int middle,
+            int high) {
+        int left = low;
+        int right = middle;
+        for (int index = low; index < high; index++) {
+            if (right == high ||
+                    (left < middle && sourceKeys[left] <= sourceKeys[right])) {
+                targetKeys[index] = sourceKeys[left];
+                targetValues[index] = sourceValues[left++];
+            } else {
+                targetKeys[index] = sourceKeys[right];
+                targetValues[index] = sourceValues[right++];
+            }
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            String message = String.format("illegal index: %d", index);
+            throw new IndexOutOfBoundsException(message);
+        }
+    }
+
+    private void readObject(ObjectInputStream stream) throws IOException,
+            ClassNotFoundException {
+        stream.defaultReadObject();
+        keys = new long[size];
+        values = new Object[size];
+        for (int index = 0; index < size; index++) {
+            keys[index] = stream.readLong();
+            values[index] = stream.readObject();
+        }
+    }
+
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        for (int index = 0; index < size; index++) {
+            stream.writeLong(keys[index]);
+            stream.writeObject(values[index]);
+        }
+    }
+}
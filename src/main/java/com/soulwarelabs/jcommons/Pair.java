@@ -4,7 +4,7 @@
  *
  * File:     Pair.java
  * Folder:   src/main/java/com/soulwarelabs/jcommons
- * Revision: 1.04, 30 August 2014
+ * Revision: 1.08, 18 October 2026
  * Created:  14 February 2014
  * Authors:  Ilya Gubarev
  *
@@ -25,8 +25,9 @@
  */
 package com.soulwarelabs.jcommons;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -34,7 +35,8 @@ import java.util.Map;
  * <p>
  * Designed to be logically comparable by the key.
  *
- * @see Printable
+ * @see AppendablePrintable
+ * @see Freezable
  *
  * @param <K> key type.
  * @param <V> value type.
@@ -42,12 +44,15 @@ import java.util.Map;
  * @since v1.0.0
  *
  * @author Ilya Gubarev
- * @version 30 August 2014
+ * @version 18 October 2026
  */
-public class Pair<K, V> implements Printable, Serializable {
+public class Pair<K, V>
+        implements AppendablePrintable, Freezable, Serializable {
 
     private K key;
     private V value;
+    private boolean frozen;
+    private transient int hash;
 
     /**
      * Creates a key-value container.
@@ -97,10 +102,12 @@ public class Pair<K, V> implements Printable, Serializable {
      * Sets a new key to be contained inside.
      *
      * @param key contained key.
+     * @throws UnsupportedOperationException if the container is frozen.
      *
      * @since v1.0.0
      */
     public void setKey(K key) {
+        checkMutable();
         this.key = key;
     }
 
@@ -119,15 +126,20 @@ public class Pair<K, V> implements Printable, Serializable {
      * Sets a new value to be contained inside.
      *
      * @param value contained value.
+     * @throws UnsupportedOperationException if the container is frozen.
      *
      * @since v1.0.0
      */
     public void setValue(V value) {
+        checkMutable();
         this.value = value;
     }
 
     @Override
     public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
         if (object == null) {
             return false;
         }
@@ -141,10 +153,27 @@ public class Pair<K, V> implements Printable, Serializable {
         return true;
     }
 
+    @Override
+    public Pair<K, V> freeze() {
+        frozen = true;
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     @Override
     public int hashCode() {
+        if (frozen && hash != 0) {
+            return hash;
+        }
         int result = 5;
         result = 67 * result + (key != null ? key.hashCode() : 0);
+        if (frozen) {
+            hash = result;
+        }
         return result;
     }
 
@@ -161,19 +190,31 @@ public class Pair<K, V> implements Printable, Serializable {
 
     @Override
     public StringBuilder print() {
-        return Pojo.print(toMap());
+        return PojoPrinter.print(this);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        PojoPrinter.printEntry(key, value, sink);
     }
 
     /**
      * Gets a mapped presentation of the pair.
+     * <p>
+     * The presentation is an immutable single-entry map holding the key and
+     * the value the pair contains at the moment of the call.
      *
      * @return mapped presentation of the pair.
      *
      * @since v1.1.0
      */
     public Map<K, V> toMap() {
-        Map<K, V> result = new HashMap<K, V>();
-        result.put(key, value);
-        return result;
+        return Collections.singletonMap(key, value);
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("pair is frozen");
+        }
     }
 }
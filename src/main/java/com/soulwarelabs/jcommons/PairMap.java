@@ -0,0 +1,293 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PairMap.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.Arrays;
+
+/**
+ * Flat key-value pair map.
+ * <p>
+ * Keeps pairs logically distinct by the key the same way as {@link Pair}
+ * does, but stores keys and values in two parallel arrays using open
+ * addressing with linear probing instead of a wrapper object per entry.
+ * Pairs are accepted and created on demand, standard map access is
+ * provided by a view. Null keys and values are supported.
+ * <p>
+ * Designed to be used by a single thread.
+ *
+ * @param <K> key type.
+ * @param <V> value type.
+ *
+ * @see IntPairMap
+ * @see LongPairMap
+ * @see Pair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class PairMap<K, V> extends AbstractPairMap<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private transient Object[] keys;
+    private transient int threshold;
+
+    /**
+     * Creates a new empty map.
+     *
+     * @since v1.1.0
+     */
+    public PairMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a new empty map.
+     *
+     * @param size expected number of entries.
+     * @throws IllegalArgumentException if size is negative.
+     *
+     * @since v1.1.0
+     */
+    public PairMap(int size) {
+        if (size < 0) {
+            String message = String.format("illegal size: %d", size);
+            throw new IllegalArgumentException(message);
+        }
+        reset(size);
+    }
+
+    /**
+     * Creates a new map of specified pairs.
+     *
+     * @param pairs pairs to be put.
+     * @throws NullPointerException if pairs are null.
+     *
+     * @see #putAll(Iterable)
+     *
+     * @since v1.1.0
+     */
+    public PairMap(Iterable<? extends Pair<? extends K, ? extends V>> pairs) {
+        this(0);
+        putAll(pairs);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Checks if specified key is mapped.
+     *
+     * @param key a key to be found (optional).
+     * @return true if the key is mapped.
+     *
+     * @since v1.1.0
+     */
+    public boolean containsKey(Object key) {
+        return find(mask(key)) >= 0;
+    }
+
+    /**
+     * Gets a value mapped to specified key.
+     *
+     * @param key a key to be found (optional).
+     * @return mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = find(mask(key));
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    /**
+     * Gets a pair of specified key and the value mapped to it.
+     *
+     * @param key a key to be found (optional).
+     * @return a new pair (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public Pair<K, V> getPair(Object key) {
+        int slot = find(mask(key));
+        if (slot < 0) {
+            return null;
+        }
+        return new Pair<K, V>(getKeyAt(slot), (V) values[slot]);
+    }
+
+    /**
+     * Maps a key to a value.
+     *
+     * @param key mapped key (optional).
+     * @param value mapped value (optional).
+     * @return previously mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Object masked = mask(key);
+        int slot = find(masked);
+        if (slot >= 0) {
+            V result = (V) values[slot];
+            values[slot] = value;
+            return result;
+        }
+        if (size >= threshold) {
+            grow();
+            slot = find(masked);
+        }
+        slot = -slot - 1;
+        keys[slot] = masked;
+        values[slot] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes a mapping of specified key.
+     *
+     * @param key a key to be removed (optional).
+     * @return previously mapped value (optional).
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int slot = find(mask(key));
+        if (slot < 0) {
+            return null;
+        }
+        V result = (V) values[slot];
+        delete(slot);
+        size--;
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    K getKeyAt(int slot) {
+        Object key = keys[slot];
+        return key != NULL_KEY ? (K) key : null;
+    }
+
+    @Override
+    int getSlots() {
+        return keys.length;
+    }
+
+    @Override
+    boolean isUsedAt(int slot) {
+        return keys[slot] != null;
+    }
+
+    @Override
+    int locate(Object key) {
+        int result = find(mask(key));
+        return result >= 0 ? result : -1;
+    }
+
+    @Override
+    V putEntry(K key, V value) {
+        return put(key, value);
+    }
+
+    @Override
+    V removeEntry(Object key) {
+        return remove(key);
+    }
+
+    @Override
+    void reset(int size) {
+        int capacity = getCapacity(size);
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        threshold = getThreshold(capacity);
+        this.size = 0;
+    }
+
+    private static Object mask(Object key) {
+        return key != null ? key : NULL_KEY;
+    }
+
+    private void delete(int slot) {
+        // NOTE: backward shift keeps probe chains unbroken without tombstones
+        int mask = keys.length - 1;
+        int free = slot;
+        int index = (slot + 1) & mask;
+        while (keys[index] != null) {
+            int home = mix(keys[index].hashCode()) & mask;
+            if (((index - home) & mask) >= ((index - free) & mask)) {
+                keys[free] = keys[index];
+                values[free] = values[index];
+                free = index;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[free] = null;
+        values[free] = null;
+    }
+
+    private int find(Object key) {
+        int mask = keys.length - 1;
+        int index = mix(key.hashCode()) & mask;
+        while (true) {
+            Object current = keys[index];
+            if (current == null) {
+                return -index - 1;
+            }
+            if (current == key || current.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int capacity = oldKeys.length << 1;
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        threshold = getThreshold(capacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != null) {
+                int index = -find(oldKeys[slot]) - 1;
+                keys[index] = oldKeys[slot];
+                values[index] = oldValues[slot];
+            }
+        }
+    }
+}
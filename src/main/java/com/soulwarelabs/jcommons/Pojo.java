@@ -4,7 +4,7 @@
  *
  * File:     Pojo.java
  * Folder:   src/main/java/com/soulwarelabs/jcommons
- * Revision: 1.03, 30 August 2014
+ * Revision: 1.05, 18 October 2026
  * Created:  15 July 2014
  * Authors:  Ilya Gubarev
  *
@@ -25,14 +25,8 @@
  */
 package com.soulwarelabs.jcommons;
 
+import java.io.IOException;
 import java.io.Serializable;
-import java.lang.reflect.Field;
-import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-import com.soulwarelabs.jcommons.namings.HiddenField;
-import com.soulwarelabs.jcommons.namings.SecretField;
 
 /**
  * Data structure.
@@ -42,7 +36,7 @@ import com.soulwarelabs.jcommons.namings.SecretField;
  * @since v1.1.0
  *
  * @author Ilya Gubarev
- * @version 30 August 2014
+ * @version 18 October 2026
  */
 public abstract class Pojo implements Copyable, Serializable {
 
@@ -55,70 +49,89 @@ public abstract class Pojo implements Copyable, Serializable {
      * @since v1.1.0
      */
     public static StringBuilder print(Object object) {
-        return print(object, false);
+        return print(object, (PrintOptions) null);
     }
 
-    private static StringBuilder print(Object object, boolean unbrace) {
-        if (object == null) {
-            return printNull();
-        }
-        if (object instanceof Collection<?>) {
-            return printCollection((Collection<?>) object);
-        }
-        if (object instanceof Map<?, ?>) {
-            return printMap((Map<?, ?>) object);
-        }
-        if (object instanceof Printable) {
-            return printText(((Printable) object).print(), unbrace);
-        }
-        if (object instanceof Pojo) {
-            return printPojo(((Pojo) object));
-        }
-        if (object instanceof CharSequence) {
-            return printText((CharSequence) object, unbrace);
-        }
-        return printText(object.toString(), unbrace);
+    /**
+     * Gets a string presentation of specified object.
+     *
+     * @param object an object to be printed (optional).
+     * @param options printing options (optional).
+     * @return string presentation of the object.
+     *
+     * @see PrintOptions
+     *
+     * @since v1.1.0
+     */
+    public static StringBuilder print(Object object, PrintOptions options) {
+        return PojoPrinter.print(object, options);
     }
 
-    private static StringBuilder printCollection(Collection<?> collection) {
-        StringBuilder result = new StringBuilder("[");
-        int index = 0;
-        for (Object item : collection) {
-            result.append(print(item));
-            if (++index < collection.size()) {
-                result.append(", ");
-            } 
-        }
-        return result.append("]");
+    /**
+     * Appends a string presentation of specified object to a sink.
+     * <p>
+     * The presentation is written directly into the sink without building
+     * intermediate strings for nested objects.
+     *
+     * @param <T> sink type.
+     * @param object an object to be printed (optional).
+     * @param sink target sink.
+     * @return target sink.
+     * @throws IOException if error occurs while appending to the sink.
+     * @throws NullPointerException if sink is null.
+     *
+     * @see AppendablePrintable
+     *
+     * @since v1.1.0
+     */
+    public static <T extends Appendable> T print(Object object, T sink)
+            throws IOException {
+        return print(object, sink, null);
     }
 
-    private static StringBuilder printMap(Map<?, ?> map) {
-        StringBuilder result = new StringBuilder("{");
-        int index = 0;
-        for (Object obj : map.keySet()) {
-            result.append("\"").append(print(obj, true)).append("\"");
-            result.append(": ").append(print(map.get(obj)));
-            if (++index < map.size()) {
-                result.append(", ");
-            } 
+    /**
+     * Appends a string presentation of specified object to a sink.
+     *
+     * @param <T> sink type.
+     * @param object an object to be printed (optional).
+     * @param sink target sink.
+     * @param options printing options (optional).
+     * @return target sink.
+     * @throws IOException if error occurs while appending to the sink.
+     * @throws NullPointerException if sink is null.
+     *
+     * @see AppendablePrintable
+     * @see PrintOptions
+     *
+     * @since v1.1.0
+     */
+    public static <T extends Appendable> T print(Object object, T sink,
+            PrintOptions options) throws IOException {
+        if (sink == null) {
+            throw new NullPointerException("sink is null");
         }
-        return result.append("}");
-    }
-
-    private static StringBuilder printNull() {
-        return new StringBuilder("null");
-    }
-
-    private static StringBuilder printPojo(Pojo pojo) {
-        return printMap(pojo.getPojoFields());
+        PojoPrinter.print(object, sink, options);
+        return sink;
     }
 
-    private static StringBuilder printText(CharSequence text, boolean unbrace) {
-        if (unbrace) {
-            return new StringBuilder(text);
-        } else {
-            return new StringBuilder("\"").append(text).append("\"");
-        }
+    /**
+     * Gets a string presentation appended by a printable object.
+     * <p>
+     * Implements {@link Printable#print()} of appendable printable objects,
+     * which append the same text as they print. Unlike
+     * {@link #print(Object)} the presentation is not enclosed in quotes.
+     *
+     * @param printable appendable printable object.
+     * @return string presentation of the object.
+     * @throws NullPointerException if printable is null.
+     *
+     * @see AppendablePrintable#printTo(Appendable)
+     *
+     * @since v1.1.0
+     */
+    public static StringBuilder printAppendable(
+            AppendablePrintable printable) {
+        return PojoPrinter.print(printable);
     }
 
     /**
@@ -130,33 +143,6 @@ public abstract class Pojo implements Copyable, Serializable {
 
     }
 
-    private Map<String, Object> getPojoFields() {
-        Map<String, Object> result = new LinkedHashMap<String, Object>(); 
-        Class<?> type = getClass();
-        while (type != Pojo.class) {
-            for (Field field : type.getDeclaredFields()) {
-                try {
-                    if (field.isAnnotationPresent(HiddenField.class)) {
-                        continue;
-                    }
-                    Object value;
-                    if (field.isAnnotationPresent(SecretField.class)) {
-                        value = "*";
-                    } else {
-                        field.setAccessible(true);
-                        value = field.get(this);
-                        field.setAccessible(false);
-                    }
-                    result.put(field.getName(), value);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            type = type.getSuperclass();
-        }
-        return result;
-    }
-
     @Override
     public String toString() {
         return print(this).toString();
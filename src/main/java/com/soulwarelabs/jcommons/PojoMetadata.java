@@ -0,0 +1,298 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoMetadata.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.02, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.soulwarelabs.jcommons.namings.HiddenField;
+import com.soulwarelabs.jcommons.namings.SecretField;
+
+/**
+ * Data structure printable fields metadata.
+ * <p>
+ * Resolved once per data structure class and cached in a concurrent map,
+ * so printing threads do not contend for a lock. The cache holds data
+ * structure classes weakly and the metadata itself keeps only field names:
+ * cached fields and printing schemes reference their classes, so they are
+ * held weakly as well and resolved again from the printed data structure
+ * after being collected. Hence the cache never prevents classes from being
+ * unloaded.
+ * <p>
+ * Printing schemes generated at compile time are preferred over reflection
+ * when available. Otherwise fields are read by cached {@link Field}
+ * instances made accessible once; a field which cannot be made accessible
+ * (e.g. due to a security manager) is still read directly, so reading it
+ * fails instead of printing a value which may differ from the field value.
+ *
+ * @see Pojo
+ * @see PojoScheme
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+final class PojoMetadata {
+
+    private static final String SECRET_VALUE = "*";
+
+    private static final ConcurrentMap<TypeKey, PojoMetadata> cache =
+            new ConcurrentHashMap<TypeKey, PojoMetadata>();
+    private static final ReferenceQueue<Class<?>> collected =
+            new ReferenceQueue<Class<?>>();
+
+    /**
+     * Gets printable fields metadata of specified data structure class.
+     *
+     * @param type data structure class.
+     * @return printable fields metadata.
+     * @throws RuntimeException if error occurs while resolving the metadata.
+     *
+     * @since v1.1.0
+     */
+    public static PojoMetadata get(Class<? extends Pojo> type) {
+        PojoMetadata result = cache.get(new TypeKey(type, null));
+        if (result == null) {
+            purge();
+            result = new PojoMetadata(type);
+            PojoMetadata existing = cache.putIfAbsent(
+                    new TypeKey(type, collected), result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private static void purge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            cache.remove(reference);
+        }
+    }
+
+    private final String[] names;
+    private final boolean schemed;
+    private final int[] sortedIndexes;
+    private volatile Reference<Field[]> fields;
+    private volatile Reference<PojoScheme<Pojo>> scheme;
+
+    private PojoMetadata(Class<?> type) {
+        PojoScheme<Pojo> found = findScheme(type);
+        schemed = found != null;
+        if (schemed) {
+            int size = found.getSize();
+            names = new String[size];
+            for (int index = 0; index < size; index++) {
+                names[index] = found.getName(index);
+            }
+            scheme = new WeakReference<PojoScheme<Pojo>>(found);
+        } else {
+            Map<String, Field> printable = findFields(type);
+            names = printable.keySet().toArray(new String[printable.size()]);
+            fields = new WeakReference<Field[]>(resolveFields(printable));
+        }
+        sortedIndexes = sortIndexes(names);
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private static PojoScheme<Pojo> findScheme(Class<?> type) {
+        String name = type.getName() + PojoScheme.SUFFIX;
+        try {
+            Class<?> scheme = Class.forName(name, true, type.getClassLoader());
+            if (!PojoScheme.class.isAssignableFrom(scheme)) {
+                return null;
+            }
+            return (PojoScheme<Pojo>) scheme.newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Map<String, Field> findFields(Class<?> type) {
+        Map<String, Field> result = new LinkedHashMap<String, Field>();
+        while (type != Pojo.class) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(HiddenField.class)) {
+                    result.put(field.getName(), field);
+                }
+            }
+            type = type.getSuperclass();
+        }
+        return result;
+    }
+
+    private static Field[] resolveFields(Map<String, Field> printable) {
+        Field[] result = new Field[printable.size()];
+        int index = 0;
+        for (Field field : printable.values()) {
+            if (!field.isAnnotationPresent(SecretField.class)) {
+                result[index] = makeAccessible(field);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    private static Field makeAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+        } catch (SecurityException e) {
+            // NOTE: reading the field reports the access failure
+        }
+        return field;
+    }
+
+    private static int[] sortIndexes(String[] names) {
+        String[] sorted = names.clone();
+        Arrays.sort(sorted);
+        int[] result = new int[names.length];
+        Map<String, Integer> indexes = new HashMap<String, Integer>();
+        for (int index = 0; index < names.length; index++) {
+            indexes.put(names[index], index);
+        }
+        for (int position = 0; position < sorted.length; position++) {
+            result[position] = indexes.get(sorted[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets a total amount of printable fields.
+     *
+     * @return total amount of printable fields.
+     *
+     * @since v1.1.0
+     */
+    public int getSize() {
+        return names.length;
+    }
+
+    /**
+     * Gets a name of printable field.
+     *
+     * @param index field index.
+     * @return field name.
+     *
+     * @since v1.1.0
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets an index of printable field in order sorted by field names.
+     *
+     * @param position field position in sorted order.
+     * @return field index.
+     *
+     * @since v1.1.0
+     */
+    public int getSortedIndex(int position) {
+        return sortedIndexes[position];
+    }
+
+    /**
+     * Gets a printable value of data structure field.
+     *
+     * @param pojo data structure of the class described by the metadata.
+     * @param index field index.
+     * @return field value (optional).
+     * @throws RuntimeException if error occurs while reading the field.
+     *
+     * @since v1.1.0
+     */
+    public Object getValue(Pojo pojo, int index) {
+        if (schemed) {
+            return getScheme(pojo).getValue(pojo, index);
+        }
+        Field field = getFields(pojo)[index];
+        if (field == null) {
+            return SECRET_VALUE;
+        }
+        try {
+            return field.get(pojo);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Field[] getFields(Pojo pojo) {
+        Field[] result = fields.get();
+        if (result == null) {
+            result = resolveFields(findFields(pojo.getClass()));
+            fields = new WeakReference<Field[]>(result);
+        }
+        return result;
+    }
+
+    private PojoScheme<Pojo> getScheme(Pojo pojo) {
+        PojoScheme<Pojo> result = scheme.get();
+        if (result == null) {
+            result = findScheme(pojo.getClass());
+            scheme = new WeakReference<PojoScheme<Pojo>>(result);
+        }
+        return result;
+    }
+
+    private static class TypeKey extends WeakReference<Class<?>> {
+
+        private final int hash;
+
+        public TypeKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            hash = System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (object == this) {
+                return true;
+            }
+            if (!(object instanceof TypeKey)) {
+                return false;
+            }
+            Class<?> type = get();
+            return type != null && type == ((TypeKey) object).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,608 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoPrinter.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.05, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Data structure printer.
+ * <p>
+ * Writes string presentations of objects directly into a single sink. The
+ * printer active on the current thread is reused by nested printing calls
+ * without own options (e.g. made by {@link AppendablePrintable}
+ * implementations), so cycles are detected and limits are applied across
+ * the whole printed graph. A nested call with own options starts a new
+ * printing with its own cycle detection and limits.
+ * <p>
+ * Output truncated by the length limit is signalled by an unchecked
+ * exception private to the printer, so it passes through code of printable
+ * objects catching {@link IOException} and is never reported as an I/O
+ * failure.
+ *
+ * @see Pojo#print(Object, Appendable, PrintOptions)
+ * @see PrintOptions
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+final class PojoPrinter {
+
+    private static final ThreadLocal<PojoPrinter> active =
+            new ThreadLocal<PojoPrinter>();
+    private static final PrintOptions defaults = new PrintOptions();
+    private static final char[] hexDigits = "0123456789abcdef".toCharArray();
+
+    /**
+     * Appends a string presentation of specified object to a sink.
+     *
+     * @param object an object to be printed (optional).
+     * @param sink target sink.
+     * @param options printing options (optional).
+     * @throws IOException if error occurs while appending to the sink.
+     *
+     * @since v1.1.0
+     */
+    public static void print(Object object, Appendable sink,
+            PrintOptions options) throws IOException {
+        PojoPrinter outer = active.get();
+        if (outer != null && options == null) {
+            if (outer.sink == sink || outer.target == sink) {
+                outer.print(object);
+            } else {
+                new PojoPrinter(sink, outer.options, outer.path).run(object);
+            }
+        } else {
+            if (options == null) {
+                options = defaults;
+            }
+            new PojoPrinter(sink, options, new Path()).run(object);
+        }
+    }
+
+    /**
+     * Gets a string presentation of specified object.
+     *
+     * @param object an object to be printed (optional).
+     * @param options printing options (optional).
+     * @return string presentation of the object.
+     *
+     * @since v1.1.0
+     */
+    public static StringBuilder print(Object object, PrintOptions options) {
+        StringBuilder result = new StringBuilder();
+        try {
+            print(object, result, options);
+        } catch (IOException e) {
+            // NOTE: string builder never throws I/O exceptions
+            throw new RuntimeException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Gets a string presentation appended by a printable object.
+     *
+     * @param printable appendable printable object.
+     * @return string presentation of the object.
+     *
+     * @since v1.1.0
+     */
+    public static StringBuilder print(AppendablePrintable printable) {
+        StringBuilder result = new StringBuilder();
+        try {
+            printable.printTo(result);
+        } catch (IOException e) {
+            // NOTE: string builder never throws I/O exceptions
+            throw new RuntimeException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Appends a string presentation of a single key-value entry to a sink.
+     * <p>
+     * The entry is printed the same way as a map containing only it, but no
+     * map is created.
+     *
+     * @param key entry key (optional).
+     * @param value entry value (optional).
+     * @param sink target sink.
+     * @throws IOException if error occurs while appending to the sink.
+     *
+     * @since v1.1.0
+     */
+    public static void printEntry(Object key, Object value, Appendable sink)
+            throws IOException {
+        print(new SingleEntry(key, value), sink, null);
+    }
+
+    private final boolean json;
+    private final int maxDepth;
+    private final int maxElements;
+    private final boolean sorted;
+    private final PrintOptions options;
+    private final Path path;
+    private final Appendable sink;
+    private final Appendable target;
+
+    private PojoPrinter(Appendable target, PrintOptions options, Path path) {
+        this.json = options.isJson();
+        this.maxDepth = options.getMaxDepth();
+        this.maxElements = options.getMaxElements();
+        this.sorted = options.isSorted();
+        this.options = options;
+        this.path = path;
+        if (options.getMaxLength() != PrintOptions.UNLIMITED) {
+            this.sink = new LimitedSink(target, options.getMaxLength());
+        } else {
+            this.sink = target;
+        }
+        this.target = target;
+    }
+
+    private void run(Object object) throws IOException {
+        run(object, false);
+    }
+
+    private void run(Object object, boolean unbrace) throws IOException {
+        PojoPrinter previous = active.get();
+        int depth = path.getSize();
+        active.set(this);
+        try {
+            print(object, unbrace);
+        } catch (Truncation e) {
+            if (e.sink != sink) {
+                throw e;
+            }
+        } finally {
+            path.reset(depth);
+            if (previous != null) {
+                active.set(previous);
+            } else {
+                active.remove();
+            }
+        }
+    }
+
+    private void print(Object object) throws IOException {
+        print(object, false);
+    }
+
+    private void print(Object object, boolean unbrace) throws IOException {
+        if (object == null) {
+            printNull();
+            return;
+        }
+        boolean printable = object instanceof Printable;
+        boolean container = object instanceof Collection<?> ||
+                object instanceof Map<?, ?> ||
+                object instanceof SingleEntry ||
+                (object instanceof Pojo && !printable);
+        if (!container && !printable) {
+            if (json && !unbrace && isLiteral(object)) {
+                sink.append(object.toString());
+            } else if (object instanceof CharSequence) {
+                printText((CharSequence) object, unbrace);
+            } else {
+                printText(object.toString(), unbrace);
+            }
+            return;
+        }
+        if (path.contains(object)) {
+            printText(PrintOptions.CYCLE_MARKER, unbrace);
+            return;
+        }
+        if (container && path.getSize() >= maxDepth) {
+            printText(PrintOptions.TRUNCATION_MARKER, unbrace);
+            return;
+        }
+        path.push(object);
+        if (object instanceof Collection<?>) {
+            printCollection((Collection<?>) object);
+        } else if (object instanceof Map<?, ?>) {
+            printMap((Map<?, ?>) object);
+        } else if (object instanceof SingleEntry) {
+            printSingleEntry((SingleEntry) object);
+        } else if (printable) {
+            printPrintable((Printable) object, unbrace);
+        } else {
+            printPojo((Pojo) object);
+        }
+        path.pop();
+    }
+
+    private boolean isLiteral(Object object) {
+        if (object instanceof Boolean) {
+            return true;
+        }
+        if (object instanceof Double) {
+            Double number = (Double) object;
+            return !number.isNaN() && !number.isInfinite();
+        }
+        if (object instanceof Float) {
+            Float number = (Float) object;
+            return !number.isNaN() && !number.isInfinite();
+        }
+        return object instanceof Number;
+    }
+
+    private void printCollection(Collection<?> collection) throws IOException {
+        sink.append('[');
+        int index = 0;
+        for (Object item : collection) {
+            if (index > 0) {
+                sink.append(", ");
+            }
+            if (index++ == maxElements) {
+                printText(PrintOptions.TRUNCATION_MARKER, false);
+                break;
+            }
+            print(item);
+        }
+        sink.append(']');
+    }
+
+    private void printMap(Map<?, ?> map) throws IOException {
+        if (sorted) {
+            printSortedMap(map);
+            return;
+        }
+        sink.append('{');
+        int index = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (index > 0) {
+                sink.append(", ");
+            }
+            if (index++ == maxElements) {
+                printTruncatedEntry();
+                break;
+            }
+            printMapEntry(entry.getKey(), entry.getValue());
+        }
+        sink.append('}');
+    }
+
+    private void printMapEntry(Object key, Object value) throws IOException {
+        if (json) {
+            printText(printKey(key), false);
+            sink.append(": ");
+        } else {
+            sink.append('"');
+            print(key, true);
+            sink.append("\": ");
+        }
+        print(value);
+    }
+
+    private void printSingleEntry(SingleEntry entry) throws IOException {
+        // NOTE: a single entry is printed the same way regardless of sorting
+        sink.append('{');
+        printMapEntry(entry.key, entry.value);
+        sink.append('}');
+    }
+
+    private void printSortedMap(Map<?, ?> map) throws IOException {
+        SortedEntry[] entries = new SortedEntry[map.size()];
+        int size = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (size == entries.length) {
+                SortedEntry[] extended = new SortedEntry[size * 2 + 1];
+                System.arraycopy(entries, 0, extended, 0, size);
+                entries = extended;
+            }
+            entries[size++] = new SortedEntry(printKey(entry.getKey()),
+                    entry.getValue());
+        }
+        Arrays.sort(entries, 0, size);
+        sink.append('{');
+        for (int index = 0; index < size; index++) {
+            if (index > 0) {
+                sink.append(", ");
+            }
+            if (index == maxElements) {
+                printTruncatedEntry();
+                break;
+            }
+            printText(entries[index].key, false);
+            sink.append(": ");
+            print(entries[index].value);
+        }
+        sink.append('}');
+    }
+
+    private String printKey(Object key) throws IOException {
+        if (key instanceof String) {
+            return (String) key;
+        }
+        StringBuilder result = new StringBuilder();
+        new PojoPrinter(result, options, path).run(key, true);
+        return result.toString();
+    }
+
+    private void printTruncatedEntry() throws IOException {
+        printText(PrintOptions.TRUNCATION_MARKER, false);
+        sink.append(": ");
+        printText(PrintOptions.TRUNCATION_MARKER, false);
+    }
+
+    private void printNull() throws IOException {
+        sink.append("null");
+    }
+
+    private void printPojo(Pojo pojo) throws IOException {
+        PojoMetadata metadata = PojoMetadata.get(pojo.getClass());
+        sink.append('{');
+        int size = metadata.getSize();
+        for (int position = 0; position < size; position++) {
+            if (position > 0) {
+                sink.append(", ");
+            }
+            int index = sorted ? metadata.getSortedIndex(position) : position;
+            sink.append('"').append(metadata.getName(index)).append("\": ");
+            print(metadata.getValue(pojo, index));
+        }
+        sink.append('}');
+    }
+
+    private void printPrintable(Printable printable, boolean unbrace)
+            throws IOException {
+        if (!unbrace) {
+            sink.append('"');
+        }
+        Appendable target = json && !unbrace ? new EscapingSink(sink) : sink;
+        if (printable instanceof AppendablePrintable) {
+            ((AppendablePrintable) printable).printTo(target);
+        } else {
+            target.append(printable.print());
+        }
+        if (!unbrace) {
+            sink.append('"');
+        }
+    }
+
+    private void printText(CharSequence text, boolean unbrace)
+            throws IOException {
+        if (unbrace) {
+            sink.append(text);
+        } else if (json) {
+            sink.append('"');
+            escape(sink, text, 0, text.length());
+            sink.append('"');
+        } else {
+            sink.append('"').append(text).append('"');
+        }
+    }
+
+    private static void escape(Appendable sink, CharSequence text, int start,
+            int end) throws IOException {
+        int unescaped = start;
+        for (int index = start; index < end; index++) {
+            char c = text.charAt(index);
+            if (c >= ' ' && c != '"' && c != '\\') {
+                continue;
+            }
+            sink.append(text, unescaped, index);
+            unescaped = index + 1;
+            switch (c) {
+                case '"':
+                    sink.append("\\\"");
+                    break;
+                case '\\':
+                    sink.append("\\\\");
+                    break;
+                case '\b':
+                    sink.append("\\b");
+                    break;
+                case '\f':
+                    sink.append("\\f");
+                    break;
+                case '\n':
+                    sink.append("\\n");
+                    break;
+                case '\r':
+                    sink.append("\\r");
+                    break;
+                case '\t':
+                    sink.append("\\t");
+                    break;
+                default:
+                    sink.append("\\u00").append(hexDigits[c >> 4]);
+                    sink.append(hexDigits[c & 0xF]);
+            }
+        }
+        sink.append(text, unescaped, end);
+    }
+
+    private static class EscapingSink implements Appendable {
+
+        private final Appendable target;
+
+        public EscapingSink(Appendable target) {
+            this.target = target;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            escape(target, String.valueOf(c), 0, 1);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text) throws IOException {
+            if (text == null) {
+                text = "null";
+            }
+            escape(target, text, 0, text.length());
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end)
+                throws IOException {
+            if (text == null) {
+                text = "null";
+            }
+            escape(target, text, start, end);
+            return this;
+        }
+    }
+
+    private static class LimitedSink implements Appendable {
+
+        private final Appendable target;
+        private int remaining;
+
+        public LimitedSink(Appendable target, int limit) {
+            this.target = target;
+            this.remaining = limit;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (remaining < 1) {
+                throw truncate();
+            }
+            target.append(c);
+            remaining--;
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence text) throws IOException {
+            if (text == null) {
+                text = "null";
+            }
+            return append(text, 0, text.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence text, int start, int end)
+                throws IOException {
+            if (text == null) {
+                text = "null";
+            }
+            int length = end - start;
+            if (length > remaining) {
+                target.append(text, start, start + remaining);
+                throw truncate();
+            }
+            target.append(text, start, end);
+            remaining -= length;
+            return this;
+        }
+
+        private Truncation truncate() throws IOException {
+            remaining = 0;
+            target.append(PrintOptions.TRUNCATION_MARKER);
+            return new Truncation(this);
+        }
+    }
+
+    private static class Path {
+
+        private Object[] items = new Object[8];
+        private int size;
+
+        public boolean contains(Object object) {
+            for (int index = 0; index < size; index++) {
+                if (items[index] == object) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public void pop() {
+            items[--size] = null;
+        }
+
+        public void reset(int size) {
+            while (this.size > size) {
+                pop();
+            }
+        }
+
+        public void push(Object object) {
+            if (size == items.length) {
+                Object[] extended = new Object[size * 2];
+                System.arraycopy(items, 0, extended, 0, size);
+                items = extended;
+            }
+            items[size++] = object;
+        }
+    }
+
+    private static class SingleEntry {
+
+        private final Object key;
+        private final Object value;
+
+        public SingleEntry(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static class SortedEntry implements Comparable<SortedEntry> {
+
+        private final String key;
+        private final Object value;
+
+        public SortedEntry(String key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(SortedEntry entry) {
+            return key.compareTo(entry.key);
+        }
+    }
+
+    private static class Truncation extends RuntimeException {
+
+        private final Appendable sink;
+
+        public Truncation(Appendable sink) {
+            super("output is truncated");
+            this.sink = sink;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
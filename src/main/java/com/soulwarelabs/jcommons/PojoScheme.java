@@ -0,0 +1,89 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoScheme.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+/**
+ * Data structure printing scheme.
+ * <p>
+ * Describes printable fields of a data structure class without reflection.
+ * Schemes are generated at compile time by jCommons annotation processor;
+ * a scheme is looked up as a public class named after the data structure
+ * class with {@link #SUFFIX} appended and must have a public constructor
+ * without arguments. Data structures having no scheme are printed by
+ * reflection.
+ *
+ * @param <T> data structure type.
+ *
+ * @see Pojo
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public interface PojoScheme<T extends Pojo> {
+
+    /**
+     * Suffix of printing scheme class name.
+     *
+     * @since v1.1.0
+     */
+    String SUFFIX = "_PojoScheme";
+
+    /**
+     * Gets a total amount of printable fields.
+     *
+     * @return total amount of printable fields.
+     *
+     * @since v1.1.0
+     */
+    int getSize();
+
+    /**
+     * Gets a name of printable field.
+     *
+     * @param index field index.
+     * @return field name.
+     * @throws IndexOutOfBoundsException if specified index is illegal.
+     *
+     * @since v1.1.0
+     */
+    String getName(int index);
+
+    /**
+     * Gets a printable value of data structure field.
+     * <p>
+     * Values of secret fields are masked.
+     *
+     * @param pojo data structure.
+     * @param index field index.
+     * @return field value (optional).
+     * @throws IndexOutOfBoundsException if specified index is illegal.
+     *
+     * @since v1.1.0
+     */
+    Object getValue(T pojo, int index);
+}
@@ -0,0 +1,278 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PrintOptions.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+/**
+ * Data structure printing options.
+ * <p>
+ * Objects referring back to themselves are always printed as
+ * {@link #CYCLE_MARKER}. Content beyond either maximum depth or maximum
+ * amount of elements is replaced with {@link #TRUNCATION_MARKER}; output
+ * exceeding maximum length is cut and ended with the same marker. All limits
+ * are disabled by default.
+ * <p>
+ * Sorted mode prints map entries and data structure fields ordered by their
+ * printed keys, so equal objects always have equal presentations.
+ * <p>
+ * JSON mode escapes printed text and prints numbers and booleans without
+ * quotes, so the output is strict JSON unless truncated by maximum length.
+ *
+ * @see Pojo#print(Object, Appendable, PrintOptions)
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class PrintOptions extends Pojo {
+
+    /**
+     * Back-reference marker printed instead of a cyclic reference.
+     *
+     * @since v1.1.0
+     */
+    public static final String CYCLE_MARKER = "<cycle>";
+
+    /**
+     * Marker printed instead of truncated content.
+     *
+     * @since v1.1.0
+     */
+    public static final String TRUNCATION_MARKER = "...";
+
+    /**
+     * Value of a disabled limit.
+     *
+     * @since v1.1.0
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * Creates a new copy of printing options.
+     *
+     * @param options original printing options (optional).
+     * @return copied printing options (optional).
+     *
+     * @since v1.1.0
+     */
+    public static PrintOptions copy(PrintOptions options) {
+        if (options == null) {
+            return null;
+        }
+        PrintOptions result = new PrintOptions();
+        result.json = options.json;
+        result.maxDepth = options.maxDepth;
+        result.maxElements = options.maxElements;
+        result.maxLength = options.maxLength;
+        result.sorted = options.sorted;
+        return result;
+    }
+
+    private boolean json;
+    private int maxDepth;
+    private int maxElements;
+    private int maxLength;
+    private boolean sorted;
+
+    /**
+     * Creates a new printing options with all limits disabled.
+     *
+     * @since v1.1.0
+     */
+    public PrintOptions() {
+        this.maxDepth = UNLIMITED;
+        this.maxElements = UNLIMITED;
+        this.maxLength = UNLIMITED;
+    }
+
+    /**
+     * Gets JSON mode status.
+     *
+     * @return true if strict JSON is printed.
+     *
+     * @since v1.1.0
+     */
+    public boolean isJson() {
+        return json;
+    }
+
+    /**
+     * Sets JSON mode status.
+     *
+     * @param json true if strict JSON is printed.
+     *
+     * @since v1.1.0
+     */
+    public void setJson(boolean json) {
+        this.json = json;
+    }
+
+    /**
+     * Gets maximum nesting depth of printed collections, maps and data
+     * structures.
+     *
+     * @return maximum nesting depth.
+     *
+     * @since v1.1.0
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets maximum nesting depth of printed collections, maps and data
+     * structures.
+     *
+     * @param maxDepth maximum nesting depth (positive).
+     * @throws IllegalArgumentException if maximum depth is illegal.
+     *
+     * @since v1.1.0
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = validateLimit(maxDepth);
+    }
+
+    /**
+     * Gets maximum amount of printed elements per collection or map.
+     *
+     * @return maximum amount of elements.
+     *
+     * @since v1.1.0
+     */
+    public int getMaxElements() {
+        return maxElements;
+    }
+
+    /**
+     * Sets maximum amount of printed elements per collection or map.
+     *
+     * @param maxElements maximum amount of elements (positive).
+     * @throws IllegalArgumentException if maximum amount is illegal.
+     *
+     * @since v1.1.0
+     */
+    public void setMaxElements(int maxElements) {
+        this.maxElements = validateLimit(maxElements);
+    }
+
+    /**
+     * Gets maximum length of printed text not including truncation marker.
+     *
+     * @return maximum length of text.
+     *
+     * @since v1.1.0
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Sets maximum length of printed text not including truncation marker.
+     *
+     * @param maxLength maximum length of text (positive).
+     * @throws IllegalArgumentException if maximum length is illegal.
+     *
+     * @since v1.1.0
+     */
+    public void setMaxLength(int maxLength) {
+        this.maxLength = validateLimit(maxLength);
+    }
+
+    /**
+     * Gets sorted mode status.
+     *
+     * @return true if keys are printed in sorted order.
+     *
+     * @since v1.1.0
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Sets sorted mode status.
+     *
+     * @param sorted true if keys are printed in sorted order.
+     *
+     * @since v1.1.0
+     */
+    public void setSorted(boolean sorted) {
+        this.sorted = sorted;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked"})
+    public <T> T copy() {
+         // NOTE: possible exception is documented for Copyable.copy()
+        return (T) copy(this);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        PrintOptions other = (PrintOptions) object;
+        if (json != other.json) {
+            return false;
+        }
+        if (maxDepth != other.maxDepth) {
+            return false;
+        }
+        if (maxElements != other.maxElements) {
+            return false;
+        }
+        if (maxLength != other.maxLength) {
+            return false;
+        }
+        if (sorted != other.sorted) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 5;
+        result = 37 * result + (json ? 1 : 0);
+        result = 37 * result + maxDepth;
+        result = 37 * result + maxElements;
+        result = 37 * result + maxLength;
+        result = 37 * result + (sorted ? 1 : 0);
+        return result;
+    }
+
+    private int validateLimit(int limit) {
+        if (limit < 1) {
+            String message = String.format("limit is not positive: %d", limit);
+            throw new IllegalArgumentException(message);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PrintSink.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Bounded streaming print sink.
+ * <p>
+ * Buffers appended text in a fixed-size chunk and writes it out to either a
+ * character writer, a UTF-8 encoded byte stream or a byte channel every time
+ * the chunk is full. Memory used by the sink does not depend on the amount
+ * of printed text.
+ * <p>
+ * Designed to be used by a single thread. Remember to finish the sink when
+ * printing is finished: flushing keeps a trailing high surrogate character
+ * buffered, so it would be lost otherwise.
+ *
+ * @see Appendable
+ * @see Pojo#print(Object, Appendable)
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PrintSink implements Appendable, Flushable {
+
+    /**
+     * Default chunk capacity in characters.
+     *
+     * @since v1.1.0
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private final char[] chunk;
+    private final CharBuffer chunkView;
+    private final WritableByteChannel channel;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder;
+    private final OutputStream stream;
+    private final Writer writer;
+    private int count;
+
+    /**
+     * Creates a new print sink writing to a character writer.
+     *
+     * @param writer target writer.
+     * @throws NullPointerException if writer is null.
+     *
+     * @since v1.1.0
+     */
+    public PrintSink(Writer writer) {
+        this(writer, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new print sink writing to a character writer.
+     *
+     * @param writer target writer.
+     * @param capacity chunk capacity in characters (positive).
+     * @throws IllegalArgumentException if capacity is illegal.
+     * @throws NullPointerException if writer is null.
+     *
+     * @since v1.1.0
+     */
+    public PrintSink(Writer writer, int capacity) {
+        if (writer == null) {
+            throw new NullPointerException("writer is null");
+        }
+        this.chunk = new char[validateCapacity(capacity)];
+        this.chunkView = null;
+        this.channel = null;
+        this.bytes = null;
+        this.encoder = null;
+        this.stream = null;
+        this.writer = writer;
+    }
+
+    /**
+     * Creates a new print sink writing UTF-8 encoded text to a byte stream.
+     *
+     * @param stream target byte stream.
+     * @throws NullPointerException if stream is null.
+     *
+     * @since v1.1.0
+     */
+    public PrintSink(OutputStream stream) {
+        this(stream, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new print sink writing UTF-8 encoded text to a byte stream.
+     *
+     * @param stream target byte stream.
+     * @param capacity chunk capacity in characters (positive).
+     * @throws IllegalArgumentException if capacity is illegal.
+     * @throws NullPointerException if stream is null.
+     *
+     * @since v1.1.0
+     */
+    public PrintSink(OutputStream stream, int capacity) {
+        this(null, stream, ByteBuffer.allocate(validateCapacity(capacity) * 3),
+                capacity);
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+    }
+
+    /**
+     * Creates a new print sink writing UTF-8 encoded text to a byte channel.
+     * <p>
+     * Specified byte buffer is used for encoding only, so a single (e.g.
+     * direct) buffer may be reused by sinks which are not used concurrently.
+     *
+     * @param channel target byte channel.
+     * @param buffer encoding byte buffer (at least 4 bytes capacity).
+     * @throws IllegalArgumentException if buffer capacity is illegal.
+     * @throws NullPointerException if either channel or buffer is null.
+     *
+     * @since v1.1.0
+     */
+    public PrintSink(WritableByteChannel channel, ByteBuffer buffer) {
+        this(channel, null, buffer, DEFAULT_CAPACITY);
+        if (channel == null) {
+            throw new NullPointerException("channel is null");
+        }
+    }
+
+    private PrintSink(WritableByteChannel channel, OutputStream stream,
+            ByteBuffer buffer, int capacity) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        if (buffer.capacity() < 4) {
+            String message = String.format("illegal buffer capacity: %d",
+                    buffer.capacity());
+            throw new IllegalArgumentException(message);
+        }
+        this.chunk = new char[capacity];
+        this.chunkView = CharBuffer.wrap(chunk);
+        this.channel = channel;
+        this.bytes = buffer;
+        this.encoder = Charset.forName("UTF-8").newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.stream = stream;
+        this.writer = null;
+        buffer.clear();
+    }
+
+    private static int validateCapacity(int capacity) {
+        if (capacity < 2) {
+            String message = String.format("illegal capacity: %d", capacity);
+            throw new IllegalArgumentException(message);
+        }
+        return capacity;
+    }
+
+    @Override
+    public PrintSink append(char c) throws IOException {
+        if (count == chunk.length) {
+            drain();
+        }
+        chunk[count++] = c;
+        return this;
+    }
+
+    @Override
+    public PrintSink append(CharSequence text) throws IOException {
+        if (text == null) {
+            return append("null", 0, 4);
+        }
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public PrintSink append(CharSequence text, int start, int end)
+            throws IOException {
+        if (text == null) {
+            return append("null", start, end);
+        }
+        while (start < end) {
+            if (count == chunk.length) {
+                drain();
+            }
+            int length = Math.min(end - start, chunk.length - count);
+            copy(text, start, start + length);
+            start += length;
+        }
+        return this;
+    }
+
+    /**
+     * Writes out all buffered text and flushes the target.
+     * <p>
+     * A trailing high surrogate character is kept buffered until its pair
+     * is appended or the sink is finished.
+     *
+     * @throws IOException if error occurs while writing the text.
+     *
+     * @since v1.1.0
+     */
+    @Override
+    public void flush() throws IOException {
+        drain(false);
+        flushTarget();
+    }
+
+    /**
+     * Writes out all buffered text including a trailing high surrogate
+     * character and flushes the target.
+     * <p>
+     * An unpaired surrogate character is encoded into bytes as a replacement
+     * character.
+     * The target is not closed, and the sink may be used to print more text
+     * afterwards.
+     *
+     * @throws IOException if error occurs while writing the text.
+     *
+     * @since v1.1.0
+     */
+    public void finish() throws IOException {
+        drain(true);
+        flushTarget();
+    }
+
+    private void copy(CharSequence text, int start, int end) {
+        if (text instanceof String) {
+            ((String) text).getChars(start, end, chunk, count);
+            count += end - start;
+        } else if (text instanceof StringBuilder) {
+            ((StringBuilder) text).getChars(start, end, chunk, count);
+            count += end - start;
+        } else {
+            for (int index = start; index < end; index++) {
+                chunk[count++] = text.charAt(index);
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        drain(false);
+    }
+
+    private void drain(boolean finished) throws IOException {
+        if (writer != null) {
+            writer.write(chunk, 0, count);
+            count = 0;
+            return;
+        }
+        chunkView.limit(count).position(0);
+        while (true) {
+            CoderResult result = encoder.encode(chunkView, bytes, finished);
+            if (result.isOverflow()) {
+                writeBytes();
+            } else {
+                break;
+            }
+        }
+        if (finished) {
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+            encoder.reset();
+        }
+        int remaining = chunkView.remaining();
+        System.arraycopy(chunk, chunkView.position(), chunk, 0, remaining);
+        count = remaining;
+    }
+
+    private void flushTarget() throws IOException {
+        if (bytes != null) {
+            writeBytes();
+        }
+        if (writer != null) {
+            writer.flush();
+        } else if (stream != null) {
+            stream.flush();
+        }
+    }
+
+    private void writeBytes() throws IOException {
+        if (stream != null) {
+            stream.write(bytes.array(), 0, bytes.position());
+        } else {
+            bytes.flip();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        bytes.clear();
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     BinaryInput.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/codecs
+ * Revision: 1.02, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.codecs;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary input.
+ * <p>
+ * Reads data written by {@link BinaryOutput} using the same codec
+ * registry. The source stream is read ahead by chunks, so it should not be
+ * shared with other readers. Sizes read from the stream are not trusted:
+ * buffers grow as the data arrives, so corrupt input fails with an
+ * exception instead of exhausting memory. Nesting of objects is limited by
+ * {@link #MAX_DEPTH} for the same reason, so deeply nested input fails
+ * instead of exhausting the stack.
+ * <p>
+ * Designed to be used by a single thread.
+ *
+ * @see BinaryOutput
+ * @see CodecRegistry
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class BinaryInput {
+
+    /**
+     * Maximum nesting depth of objects being read.
+     *
+     * @since v1.1.0
+     */
+    public static final int MAX_DEPTH = 512;
+
+    private final byte[] buffer;
+    private final CodecRegistry registry;
+    private final InputStream stream;
+    private final List<String> strings;
+    private char[] chars;
+    private int count;
+    private int depth;
+    private int position;
+
+    /**
+     * Creates a new binary input.
+     *
+     * @param stream source byte stream.
+     * @param registry codec registry.
+     * @throws NullPointerException if either stream or registry is null.
+     *
+     * @since v1.1.0
+     */
+    public BinaryInput(InputStream stream, CodecRegistry registry) {
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        if (registry == null) {
+            throw new NullPointerException("registry is null");
+        }
+        this.buffer = new byte[4096];
+        this.registry = registry;
+        this.stream = stream;
+        this.strings = new ArrayList<String>();
+        this.chars = new char[64];
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @return boolean value.
+     * @throws IOException if error occurs while reading the value.
+     *
+     * @since v1.1.0
+     */
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    /**
+     * Reads a floating point value.
+     *
+     * @return floating point value.
+     * @throws IOException if error occurs while reading the value.
+     *
+     * @since v1.1.0
+     */
+    public double readDouble() throws IOException {
+        long bits = 0;
+        for (int index = 0; index < 8; index++) {
+            bits = (bits << 8) | readByte();
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Reads an integer value.
+     *
+     * @return integer value.
+     * @throws IOException if error occurs while reading the value.
+     *
+     * @since v1.1.0
+     */
+    public int readInt() throws IOException {
+        int zigzag = readUnsigned();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /**
+     * Reads a long integer value.
+     *
+     * @return long integer value.
+     * @throws IOException if error occurs while reading the value.
+     *
+     * @since v1.1.0
+     */
+    public long readLong() throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int value = readByte();
+            zigzag |= (long) (value & 0x7F) << shift;
+            if ((value & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("malformed long integer");
+    }
+
+    /**
+     * Reads an object written by {@link BinaryOutput#writeObject(Object)}.
+     *
+     * @return read object (optional).
+     * @throws IOException if error occurs while reading the object or the
+     * object is nested deeper than {@link #MAX_DEPTH}.
+     *
+     * @since v1.1.0
+     */
+    public Object readObject() throws IOException {
+        if (depth == MAX_DEPTH) {
+            String message = String.format("nesting is too deep: %d",
+                    depth);
+            throw new IOException(message);
+        }
+        depth++;
+        try {
+            return readValue();
+        } finally {
+            depth--;
+        }
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return string value (optional).
+     * @throws IOException if error occurs while reading the value.
+     *
+     * @since v1.1.0
+     */
+    public String readString() throws IOException {
+        int header = readUnsigned();
+        if (header == BinaryOutput.STRING_NULL) {
+            return null;
+        }
+        if (header >= BinaryOutput.STRING_REFERENCE) {
+            int reference = header - BinaryOutput.STRING_REFERENCE;
+            if (reference >= strings.size()) {
+                String message = String.format("unknown string: %d",
+                        reference);
+                throw new IOException(message);
+            }
+            return strings.get(reference);
+        }
+        if (header != BinaryOutput.STRING_NEW) {
+            String message = String.format("illegal string: %d", header);
+            throw new IOException(message);
+        }
+        int length = readSize();
+        int size = 0;
+        for (int index = 0; index < length; index++) {
+            if (size == chars.length) {
+                char[] extended = new char[chars.length * 2];
+                System.arraycopy(chars, 0, extended, 0, size);
+                chars = extended;
+            }
+            int value = readByte();
+            if (value < 0x80) {
+                chars[size++] = (char) value;
+            } else if (value < 0xE0) {
+                chars[size++] = (char) (((value & 0x1F) << 6) |
+                        (readByte() & 0x3F));
+                index++;
+            } else {
+                chars[size++] = (char) (((value & 0x0F) << 12) |
+                        ((readByte() & 0x3F) << 6) | (readByte() & 0x3F));
+                index += 2;
+            }
+        }
+        String result = new String(chars, 0, size);
+        strings.add(result);
+        return result;
+    }
+
+    private int getCapacity(int size) {
+        // NOTE: every element takes at least one byte, trust buffered ones
+        return Math.min(size, count - position);
+    }
+
+    private int readByte() throws IOException {
+        if (position == count) {
+            count = stream.read(buffer, 0, buffer.length);
+            position = 0;
+            if (count <= 0) {
+                count = 0;
+                throw new EOFException();
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private Collection<Object> readElements(Collection<Object> result,
+            int size) throws IOException {
+        for (int index = 0; index < size; index++) {
+            result.add(readObject());
+        }
+        return result;
+    }
+
+    private Map<Object, Object> readMap() throws IOException {
+        int size = readSize();
+        Map<Object, Object> result = new LinkedHashMap<Object, Object>(
+                getCapacity(size) * 2);
+        for (int index = 0; index < size; index++) {
+            Object key = readObject();
+            result.put(key, readObject());
+        }
+        return result;
+    }
+
+    private int readSize() throws IOException {
+        int result = readUnsigned();
+        if (result < 0) {
+            String message = String.format("illegal size: %d", result);
+            throw new IOException(message);
+        }
+        return result;
+    }
+
+    private int readUnsigned() throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int value = readByte();
+            result |= (value & 0x7F) << shift;
+            if ((value & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("malformed integer");
+    }
+
+    private Object readValue() throws IOException {
+        int tag = readUnsigned();
+        switch (tag) {
+            case BinaryOutput.TAG_NULL:
+                return null;
+            case BinaryOutput.TAG_FALSE:
+                return Boolean.FALSE;
+            case BinaryOutput.TAG_TRUE:
+                return Boolean.TRUE;
+            case BinaryOutput.TAG_INT:
+                return readInt();
+            case BinaryOutput.TAG_LONG:
+                return readLong();
+            case BinaryOutput.TAG_DOUBLE:
+                return readDouble();
+            case BinaryOutput.TAG_STRING:
+                return readString();
+            case BinaryOutput.TAG_LIST:
+                int listSize = readSize();
+                return readElements(
+                        new ArrayList<Object>(getCapacity(listSize)),
+                        listSize);
+            case BinaryOutput.TAG_SET:
+                int setSize = readSize();
+                return readElements(
+                        new LinkedHashSet<Object>(getCapacity(setSize) * 2),
+                        setSize);
+            case BinaryOutput.TAG_MAP:
+                return readMap();
+            case BinaryOutput.TAG_REGISTERED:
+                int id = readUnsigned();
+                Codec<?> codec = registry.getCodec(id);
+                if (codec == null) {
+                    String message = String.format("unknown schema: %d", id);
+                    throw new IOException(message);
+                }
+                return codec.read(this);
+            default:
+                String message = String.format("unknown tag: %d", tag);
+                throw new IOException(message);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     BinaryOutput.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/codecs
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.codecs;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact binary output.
+ * <p>
+ * Integers are written as variable-length zigzag numbers and every distinct
+ * string is written once per output, repeated strings are written as
+ * references. Objects of registered types are identified by their schema
+ * identifiers instead of class descriptors.
+ * <p>
+ * Designed to be used by a single thread.
+ *
+ * @see BinaryInput
+ * @see CodecRegistry
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class BinaryOutput implements Flushable {
+
+    static final int TAG_NULL = 0;
+    static final int TAG_FALSE = 1;
+    static final int TAG_TRUE = 2;
+    static final int TAG_INT = 3;
+    static final int TAG_LONG = 4;
+    static final int TAG_DOUBLE = 5;
+    static final int TAG_STRING = 6;
+    static final int TAG_LIST = 7;
+    static final int TAG_SET = 8;
+    static final int TAG_MAP = 9;
+    static final int TAG_REGISTERED = 10;
+
+    static final int STRING_NULL = 0;
+    static final int STRING_NEW = 1;
+    static final int STRING_REFERENCE = 2;
+
+    private final byte[] buffer;
+    private final CodecRegistry registry;
+    private final OutputStream stream;
+    private final Map<String, Integer> strings;
+    private int count;
+
+    /**
+     * Creates a new binary output.
+     *
+     * @param stream target byte stream.
+     * @param registry codec registry.
+     * @throws NullPointerException if either stream or registry is null.
+     *
+     * @since v1.1.0
+     */
+    public BinaryOutput(OutputStream stream, CodecRegistry registry) {
+        if (stream == null) {
+            throw new NullPointerException("stream is null");
+        }
+        if (registry == null) {
+            throw new NullPointerException("registry is null");
+        }
+        this.buffer = new byte[4096];
+        this.registry = registry;
+        this.stream = stream;
+        this.strings = new HashMap<String, Integer>();
+    }
+
+    /**
+     * Writes buffered bytes to the target stream and flushes it.
+     *
+     * @throws IOException if error occurs while writing the bytes.
+     *
+     * @since v1.1.0
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        stream.flush();
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value boolean value.
+     * @throws IOException if error occurs while writing the value.
+     *
+     * @since v1.1.0
+     */
+    public void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes a floating point value.
+     *
+     * @param value floating point value.
+     * @throws IOException if error occurs while writing the value.
+     *
+     * @since v1.1.0
+     */
+    public void writeDouble(double value) throws IOException {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (bits >>> shift));
+        }
+    }
+
+    /**
+     * Writes an integer value using 1 to 5 bytes.
+     *
+     * @param value integer value.
+     * @throws IOException if error occurs while writing the value.
+     *
+     * @since v1.1.0
+     */
+    public void writeInt(int value) throws IOException {
+        writeUnsigned((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes a long integer value using 1 to 10 bytes.
+     *
+     * @param value long integer value.
+     * @throws IOException if error occurs while writing the value.
+     *
+     * @since v1.1.0
+     */
+    public void writeLong(long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        writeByte((int) zigzag);
+    }
+
+    /**
+     * Writes an object of any supported type.
+     * <p>
+     * Supported types are strings, booleans, integers, long integers,
+     * floating point numbers, lists, sets, maps and types registered in the
+     * codec registry. Java serialization is never used, so other types
+     * should have codecs registered.
+     *
+     * @param object an object to be written (optional).
+     * @throws IOException if error occurs while writing the object.
+     * @throws IllegalArgumentException if object type is not supported.
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings({"unchecked"})
+    public void writeObject(Object object) throws IOException {
+        if (object == null) {
+            writeUnsigned(TAG_NULL);
+        } else if (object instanceof Boolean) {
+            writeUnsigned((Boolean) object ? TAG_TRUE : TAG_FALSE);
+        } else if (object instanceof Integer) {
+            writeUnsigned(TAG_INT);
+            writeInt((Integer) object);
+        } else if (object instanceof Long) {
+            writeUnsigned(TAG_LONG);
+            writeLong((Long) object);
+        } else if (object instanceof Double) {
+            writeUnsigned(TAG_DOUBLE);
+            writeDouble((Double) object);
+        } else if (object instanceof String) {
+            writeUnsigned(TAG_STRING);
+            writeString((String) object);
+        } else {
+            CodecRegistry.Entry<Object> entry = (CodecRegistry.Entry<Object>)
+                    registry.getEntry(object.getClass());
+            if (entry != null) {
+                writeUnsigned(TAG_REGISTERED);
+                writeUnsigned(entry.getId());
+                entry.getCodec().write(this, object);
+            } else if (object instanceof List<?>) {
+                writeElements(TAG_LIST, (List<?>) object);
+            } else if (object instanceof Set<?>) {
+                writeElements(TAG_SET, (Set<?>) object);
+            } else if (object instanceof Map<?, ?>) {
+                writeMap((Map<?, ?>) object);
+            } else {
+                String message = String.format("unsupported type: %s",
+                        object.getClass().getName());
+                throw new IllegalArgumentException(message);
+            }
+        }
+    }
+
+    /**
+     * Writes a string.
+     *
+     * @param value string value (optional).
+     * @throws IOException if error occurs while writing the value.
+     *
+     * @since v1.1.0
+     */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeUnsigned(STRING_NULL);
+            return;
+        }
+        Integer reference = strings.get(value);
+        if (reference != null) {
+            writeUnsigned(STRING_REFERENCE + reference);
+            return;
+        }
+        strings.put(value, strings.size());
+        writeUnsigned(STRING_NEW);
+        int length = value.length();
+        writeUnsigned(getEncodedLength(value));
+        for (int index = 0; index < length; index++) {
+            char c = value.charAt(index);
+            if (c < 0x80) {
+                writeByte(c);
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static int getEncodedLength(String value) {
+        int length = value.length();
+        int result = length;
+        for (int index = 0; index < length; index++) {
+            char c = value.charAt(index);
+            if (c >= 0x800) {
+                result += 2;
+            } else if (c >= 0x80) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private void drain() throws IOException {
+        stream.write(buffer, 0, count);
+        count = 0;
+    }
+
+    private void writeByte(int value) throws IOException {
+        if (count == buffer.length) {
+            drain();
+        }
+        buffer[count++] = (byte) value;
+    }
+
+    private void writeElements(int tag, Collection<?> elements)
+            throws IOException {
+        writeUnsigned(tag);
+        writeUnsigned(elements.size());
+        for (Object element : elements) {
+            writeObject(element);
+        }
+    }
+
+    private void writeMap(Map<?, ?> map) throws IOException {
+        writeUnsigned(TAG_MAP);
+        writeUnsigned(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            writeObject(entry.getKey());
+            writeObject(entry.getValue());
+        }
+    }
+
+    private void writeUnsigned(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+}
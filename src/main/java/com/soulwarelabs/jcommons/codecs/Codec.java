@@ -0,0 +1,70 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     Codec.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/codecs
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.codecs;
+
+import java.io.IOException;
+
+/**
+ * Binary object codec.
+ * <p>
+ * Writes and reads the state of an object only; type identification is
+ * performed by {@link CodecRegistry}.
+ *
+ * @param <T> object type.
+ *
+ * @see BinaryInput
+ * @see BinaryOutput
+ * @see CodecRegistry
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public interface Codec<T> {
+
+    /**
+     * Reads an object.
+     *
+     * @param input binary input.
+     * @return read object.
+     * @throws IOException if error occurs while reading the object.
+     *
+     * @since v1.1.0
+     */
+    T read(BinaryInput input) throws IOException;
+
+    /**
+     * Writes an object.
+     *
+     * @param output binary output.
+     * @param object an object to be written.
+     * @throws IOException if error occurs while writing the object.
+     *
+     * @since v1.1.0
+     */
+    void write(BinaryOutput output, T object) throws IOException;
+}
@@ -0,0 +1,237 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     CodecRegistry.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/codecs
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.codecs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.soulwarelabs.jcommons.Box;
+import com.soulwarelabs.jcommons.Pair;
+import com.soulwarelabs.jcommons.data.Credentials;
+import com.soulwarelabs.jcommons.data.Version;
+import com.soulwarelabs.jcommons.errors.Failure;
+
+/**
+ * Binary codec registry.
+ * <p>
+ * Maps exact object types to codecs and numeric schema identifiers. Codecs
+ * for {@link Box}, {@link Pair}, {@link Version}, {@link Failure} and
+ * {@link Credentials} are registered by default; identifiers below
+ * {@link #FIRST_CUSTOM_ID} are reserved for them. Data structures of other
+ * types should have their codecs registered with the same identifiers on
+ * both writing and reading sides.
+ * <p>
+ * Designed to be thread-safe.
+ *
+ * @see BinaryInput
+ * @see BinaryOutput
+ * @see Codec
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class CodecRegistry {
+
+    /**
+     * The lowest schema identifier available for custom codecs.
+     *
+     * @since v1.1.0
+     */
+    public static final int FIRST_CUSTOM_ID = 16;
+
+    private final Map<Integer, Entry<?>> ids;
+    private final Map<Class<?>, Entry<?>> types;
+
+    /**
+     * Creates a new codec registry with default codecs registered.
+     *
+     * @since v1.1.0
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public CodecRegistry() {
+        ids = new ConcurrentHashMap<Integer, Entry<?>>();
+        types = new ConcurrentHashMap<Class<?>, Entry<?>>();
+        add((Class) Box.class, 1, new StandardCodecs.BoxCodec());
+        add((Class) Pair.class, 2, new StandardCodecs.PairCodec());
+        add(Version.class, 3, new StandardCodecs.VersionCodec());
+        add(Failure.class, 4, new StandardCodecs.FailureCodec());
+        add(Credentials.class, 5, new StandardCodecs.CredentialsCodec());
+    }
+
+    /**
+     * Decodes an object from a byte array.
+     *
+     * @param bytes encoded object.
+     * @return decoded object (optional).
+     * @throws IOException if error occurs while decoding the object.
+     *
+     * @since v1.1.0
+     */
+    public Object decode(byte[] bytes) throws IOException {
+        return new BinaryInput(new ByteArrayInputStream(bytes), this)
+                .readObject();
+    }
+
+    /**
+     * Encodes an object into a byte array.
+     *
+     * @param object an object to be encoded (optional).
+     * @return encoded object.
+     * @throws IOException if error occurs while encoding the object.
+     * @throws IllegalArgumentException if object type is not supported.
+     *
+     * @see BinaryOutput#writeObject(Object)
+     *
+     * @since v1.1.0
+     */
+    public byte[] encode(Object object) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        BinaryOutput output = new BinaryOutput(result, this);
+        output.writeObject(object);
+        output.flush();
+        return result.toByteArray();
+    }
+
+    /**
+     * Registers a new codec.
+     *
+     * @param <T> object type.
+     * @param type exact object type.
+     * @param id schema identifier (not less than {@link #FIRST_CUSTOM_ID}).
+     * @param codec object codec.
+     * @throws IllegalArgumentException if either type or identifier is
+     * illegal or already registered.
+     * @throws NullPointerException if either type or codec is null.
+     *
+     * @since v1.1.0
+     */
+    public <T> void register(Class<T> type, int id, Codec<T> codec) {
+        if (id < FIRST_CUSTOM_ID) {
+            String message = String.format("reserved schema: %d", id);
+            throw new IllegalArgumentException(message);
+        }
+        add(type, id, codec);
+    }
+
+    /**
+     * Gets a codec by schema identifier.
+     *
+     * @param id schema identifier.
+     * @return object codec (optional).
+     *
+     * @since v1.1.0
+     */
+    Codec<?> getCodec(int id) {
+        Entry<?> entry = ids.get(id);
+        return entry != null ? entry.getCodec() : null;
+    }
+
+    /**
+     * Gets a registry entry by exact object type.
+     *
+     * @param type exact object type.
+     * @return registry entry (optional).
+     *
+     * @since v1.1.0
+     */
+    Entry<?> getEntry(Class<?> type) {
+        return types.get(type);
+    }
+
+    private synchronized <T> void add(Class<T> type, int id, Codec<T> codec) {
+        if (type == null) {
+            throw new NullPointerException("type is null");
+        }
+        if (codec == null) {
+            throw new NullPointerException("codec is null");
+        }
+        if (ids.containsKey(id)) {
+            String message = String.format("schema is registered: %d", id);
+            throw new IllegalArgumentException(message);
+        }
+        if (types.containsKey(type)) {
+            String message = String.format("type is registered: %s",
+                    type.getName());
+            throw new IllegalArgumentException(message);
+        }
+        Entry<T> entry = new Entry<T>(id, codec);
+        ids.put(id, entry);
+        types.put(type, entry);
+    }
+
+    /**
+     * Codec registry entry.
+     *
+     * @param <T> object type.
+     *
+     * @since v1.1.0
+     */
+    static class Entry<T> {
+
+        private final Codec<T> codec;
+        private final int id;
+
+        /**
+         * Creates a new codec registry entry.
+         *
+         * @param id schema identifier.
+         * @param codec object codec.
+         *
+         * @since v1.1.0
+         */
+        public Entry(int id, Codec<T> codec) {
+            this.codec = codec;
+            this.id = id;
+        }
+
+        /**
+         * Gets an object codec.
+         *
+         * @return object codec.
+         *
+         * @since v1.1.0
+         */
+        public Codec<T> getCodec() {
+            return codec;
+        }
+
+        /**
+         * Gets a schema identifier.
+         *
+         * @return schema identifier.
+         *
+         * @since v1.1.0
+         */
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     StandardCodecs.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/codecs
+ * Revision: 1.02, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.codecs;
+
+import java.io.IOException;
+
+import com.soulwarelabs.jcommons.Box;
+import com.soulwarelabs.jcommons.Pair;
+import com.soulwarelabs.jcommons.data.Credentials;
+import com.soulwarelabs.jcommons.data.Version;
+import com.soulwarelabs.jcommons.errors.Failure;
+
+/**
+ * Codecs of jCommons API types.
+ *
+ * @see CodecRegistry
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+final class StandardCodecs {
+
+    private StandardCodecs() {
+
+    }
+
+    /**
+     * Value container codec.
+     *
+     * @since v1.1.0
+     */
+    static class BoxCodec implements Codec<Box<Object>> {
+
+        @Override
+        public Box<Object> read(BinaryInput input) throws IOException {
+            Box<Object> result = new Box<Object>(input.readObject());
+            return input.readBoolean() ? result.freeze() : result;
+        }
+
+        @Override
+        public void write(BinaryOutput output, Box<Object> box)
+                throws IOException {
+            output.writeObject(box.getValue());
+            output.writeBoolean(box.isFrozen());
+        }
+    }
+
+    /**
+     * Authentication pair codec.
+     *
+     * @since v1.1.0
+     */
+    static class CredentialsCodec implements Codec<Credentials> {
+
+        @Override
+        public Credentials read(BinaryInput input) throws IOException {
+            String login = input.readString();
+            return new Credentials(login, input.readString());
+        }
+
+        @Override
+        public void write(BinaryOutput output, Credentials credentials)
+                throws IOException {
+            output.writeString(credentials.getLogin());
+            output.writeString(credentials.getPassword());
+        }
+    }
+
+    /**
+     * Failure descriptor codec.
+     *
+     * @since v1.1.0
+     */
+    static class FailureCodec implements Codec<Failure> {
+
+        @Override
+        public Failure read(BinaryInput input) throws IOException {
+            Failure result = new Failure();
+            result.setCode(input.readString());
+            result.setDetails(input.readString());
+            result.setTitle(input.readString());
+            return result;
+        }
+
+        @Override
+        public void write(BinaryOutput output, Failure failure)
+                throws IOException {
+            output.writeString(failure.getCode());
+            output.writeString(failure.getDetails());
+            output.writeString(failure.getTitle());
+        }
+    }
+
+    /**
+     * Key-value container codec.
+     *
+     * @since v1.1.0
+     */
+    static class PairCodec implements Codec<Pair<Object, Object>> {
+
+        @Override
+        public Pair<Object, Object> read(BinaryInput input)
+                throws IOException {
+            Object key = input.readObject();
+            Pair<Object, Object> result = new Pair<Object, Object>(key,
+                    input.readObject());
+            return input.readBoolean() ? result.freeze() : result;
+        }
+
+        @Override
+        public void write(BinaryOutput output, Pair<Object, Object> pair)
+                throws IOException {
+            output.writeObject(pair.getKey());
+            output.writeObject(pair.getValue());
+            output.writeBoolean(pair.isFrozen());
+        }
+    }
+
+    /**
+     * Semantic version descriptor codec.
+     *
+     * @since v1.1.0
+     */
+    static class VersionCodec implements Codec<Version> {
+
+        @Override
+        public Version read(BinaryInput input) throws IOException {
+            int length = input.readInt();
+            if (length < 0) {
+                String message = String.format("illegal length: %d", length);
+                throw new IOException(message);
+            }
+            Version result = new Version();
+            for (int index = 0; index < length; index++) {
+                int number = input.readInt();
+                if (number < 0) {
+                    String message = String.format("illegal number: %d",
+                            number);
+                    throw new IOException(message);
+                }
+                result.append(number, input.readString());
+            }
+            result.setSnapshot(input.readBoolean());
+            return input.readBoolean() ? result.freeze() : result;
+        }
+
+        @Override
+        public void write(BinaryOutput output, Version version)
+                throws IOException {
+            int length = version.getLength();
+            output.writeInt(length);
+            for (int index = 1; index <= length; index++) {
+                output.writeInt(version.getNumber(index));
+                output.writeString(version.getNumberLabel(index));
+            }
+            output.writeBoolean(version.isSnapshot());
+            output.writeBoolean(version.isFrozen());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     AbstractVersionIndex.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.Collection;
+
+/**
+ * Base version index implementing derived queries.
+ *
+ * @see VersionIndex
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+abstract class AbstractVersionIndex implements VersionIndex {
+
+    /**
+     * Creates a new version index.
+     *
+     * @since v1.1.0
+     */
+    public AbstractVersionIndex() {
+
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Version> versions) {
+        if (versions == null) {
+            throw new NullPointerException("versions are null");
+        }
+        boolean result = false;
+        for (Version version : versions) {
+            result |= add(version);
+        }
+        return result;
+    }
+
+    @Override
+    public Version getLatest(int major) {
+        if (major < 0) {
+            String message = String.format("major is negative: %d", major);
+            throw new IllegalArgumentException(message);
+        }
+        Version result;
+        if (major == Integer.MAX_VALUE) {
+            result = getLatest();
+        } else {
+            // NOTE: the lowest possible version with the next major number
+            Version bound = new Version(major + 1);
+            bound.setMajor(major + 1, "").setSnapshot(true);
+            result = lower(bound);
+        }
+        if (result == null || result.getLength() == 0) {
+            return null;
+        }
+        return result.getMajor() == major ? result : null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (Version version : this) {
+            if (result.length() > 1) {
+                result.append(", ");
+            }
+            result.append(version.print());
+        }
+        return result.append(']').toString();
+    }
+
+    /**
+     * Gets the greatest indexed version less than specified one.
+     *
+     * @param version version descriptor.
+     * @return indexed version (optional).
+     *
+     * @since v1.1.0
+     */
+    protected abstract Version lower(Version version);
+
+    /**
+     * Checks a version argument.
+     *
+     * @param version version descriptor.
+     * @return the same version descriptor.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    protected Version check(Version version) {
+        if (version == null) {
+            throw new NullPointerException("version is null");
+        }
+        return version;
+    }
+}
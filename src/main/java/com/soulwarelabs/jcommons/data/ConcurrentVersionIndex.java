@@ -0,0 +1,306 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     ConcurrentVersionIndex.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.02, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Version index based on a copy-on-write sorted array.
+ * <p>
+ * Queries run without locking against an immutable snapshot of the index
+ * using binary search, and the latest release is kept with the snapshot.
+ * Modifications are serialized and replace the whole snapshot, so each of
+ * them copies the index and takes linear time: adding n versions one by one
+ * copies O(n<sup>2</sup>) references in total. The index is meant to be
+ * read far more often than modified; create it from a collection or use
+ * {@link #addAll(Collection)} to publish a batch of new versions with a
+ * single sort and merge, or guard a {@link TreeVersionIndex} by a lock when
+ * modifications prevail.
+ * <p>
+ * Designed to be thread-safe.
+ *
+ * @see TreeVersionIndex
+ * @see VersionIndex
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class ConcurrentVersionIndex extends AbstractVersionIndex {
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a new empty version index.
+     *
+     * @since v1.1.0
+     */
+    public ConcurrentVersionIndex() {
+        snapshot = new Snapshot(new Version[0], null);
+    }
+
+    /**
+     * Creates a new version index.
+     * <p>
+     * Specified versions are sorted once and published as a single snapshot.
+     *
+     * @param versions versions to be indexed.
+     * @throws NullPointerException if versions or any of them are null.
+     *
+     * @since v1.1.0
+     */
+    public ConcurrentVersionIndex(Collection<? extends Version> versions) {
+        this();
+        addAll(versions);
+    }
+
+    @Override
+    public synchronized boolean add(Version version) {
+        Snapshot current = snapshot;
+        Version[] versions = current.versions;
+        int index = Arrays.binarySearch(versions, check(version));
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        Version[] result = new Version[versions.length + 1];
+        System.arraycopy(versions, 0, result, 0, index);
+        Version frozen = Version.toFrozen(version);
+        result[index] = frozen;
+        System.arraycopy(versions, index, result, index + 1,
+                versions.length - index);
+        Version release = current.release;
+        if (!frozen.isSnapshot() &&
+                (release == null || release.compareTo(frozen) < 0)) {
+            release = frozen;
+        }
+        snapshot = new Snapshot(result, release);
+        return true;
+    }
+
+    /**
+     * Adds specified versions to the index.
+     * <p>
+     * The versions are sorted and merged with the current snapshot, so the
+     * whole batch takes O(n + k log k) time and is published at once:
+     * readers see either none or all of the new versions. Nothing is added
+     * if any of the versions is null.
+     *
+     * @param added versions to be added.
+     * @return true if the index was changed.
+     * @throws NullPointerException if versions or any of them are null.
+     *
+     * @since v1.1.0
+     */
+    @Override
+    public synchronized boolean addAll(Collection<? extends Version> added) {
+        if (added == null) {
+            throw new NullPointerException("versions are null");
+        }
+        if (added.isEmpty()) {
+            return false;
+        }
+        Version[] sorted = new Version[added.size()];
+        int size = 0;
+        for (Version version : added) {
+            sorted[size++] = Version.toFrozen(check(version));
+        }
+        Arrays.sort(sorted);
+        Snapshot current = snapshot;
+        Version[] versions = current.versions;
+        Version[] result = new Version[versions.length + sorted.length];
+        Version release = current.release;
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < versions.length || j < sorted.length) {
+            Version next;
+            if (j == sorted.length) {
+                next = versions[i++];
+            } else if (i == versions.length) {
+                next = sorted[j++];
+            } else {
+                int delta = versions[i].compareTo(sorted[j]);
+                next = delta <= 0 ? versions[i++] : sorted[j++];
+            }
+            if (count == 0 || result[count - 1].compareTo(next) != 0) {
+                result[count++] = next;
+                if (!next.isSnapshot()) {
+                    release = next;
+                }
+            }
+        }
+        if (count == versions.length) {
+            return false;
+        }
+        if (count < result.length) {
+            Version[] trimmed = new Version[count];
+            System.arraycopy(result, 0, trimmed, 0, count);
+            result = trimmed;
+        }
+        snapshot = new Snapshot(result, release);
+        return true;
+    }
+
+    @Override
+    public Version ceiling(Version version) {
+        Version[] versions = snapshot.versions;
+        int index = Arrays.binarySearch(versions, check(version));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < versions.length ? versions[index] : null;
+    }
+
+    @Override
+    public boolean contains(Version version) {
+        return Arrays.binarySearch(snapshot.versions, check(version)) >= 0;
+    }
+
+    @Override
+    public Version floor(Version version) {
+        Version[] versions = snapshot.versions;
+        int index = Arrays.binarySearch(versions, check(version));
+        if (index >= 0) {
+            return versions[index];
+        }
+        index = -index - 2;
+        return index >= 0 ? versions[index] : null;
+    }
+
+    @Override
+    public Version getLatest() {
+        Version[] versions = snapshot.versions;
+        return versions.length > 0 ? versions[versions.length - 1] : null;
+    }
+
+    @Override
+    public Version getLatestRelease() {
+        return snapshot.release;
+    }
+
+    @Override
+    public int getSize() {
+        return snapshot.versions.length;
+    }
+
+    @Override
+    public Iterator<Version> iterator() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.versions))
+                .iterator();
+    }
+
+    @Override
+    public synchronized boolean remove(Version version) {
+        Snapshot current = snapshot;
+        Version[] versions = current.versions;
+        int index = Arrays.binarySearch(versions, check(version));
+        if (index < 0) {
+            return false;
+        }
+        Version[] result = new Version[versions.length - 1];
+        System.arraycopy(versions, 0, result, 0, index);
+        System.arraycopy(versions, index + 1, result, index,
+                result.length - index);
+        Version release = current.release;
+        if (release == versions[index]) {
+            // NOTE: the previous release precedes the removed one
+            release = null;
+            while (index > 0 && release == null) {
+                Version previous = result[--index];
+                if (!previous.isSnapshot()) {
+                    release = previous;
+                }
+            }
+        }
+        snapshot = new Snapshot(result, release);
+        return true;
+    }
+
+    @Override
+    public List<Version> select(VersionRange range) {
+        if (range == null) {
+            throw new NullPointerException("range is null");
+        }
+        Version[] versions = snapshot.versions;
+        int index = 0;
+        if (range.getLower() != null) {
+            index = Arrays.binarySearch(versions, range.getLower());
+            if (index < 0) {
+                index = -index - 1;
+            }
+        }
+        List<Version> result = new ArrayList<Version>();
+        for (; index < versions.length; index++) {
+            int location = range.locate(versions[index]);
+            if (location > 0) {
+                break;
+            }
+            if (location == 0) {
+                result.add(versions[index]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected Version lower(Version version) {
+        Version[] versions = snapshot.versions;
+        int index = Arrays.binarySearch(versions, version);
+        index = index >= 0 ? index - 1 : -index - 2;
+        return index >= 0 ? versions[index] : null;
+    }
+
+    /**
+     * Immutable state of the index.
+     *
+     * @since v1.1.0
+     */
+    private static class Snapshot {
+
+        private final Version release;
+        private final Version[] versions;
+
+        /**
+         * Creates a new index state.
+         *
+         * @param versions sorted versions.
+         * @param release the latest release (optional).
+         *
+         * @since v1.1.0
+         */
+        public Snapshot(Version[] versions, Version release) {
+            this.release = release;
+            this.versions = versions;
+        }
+    }
+}
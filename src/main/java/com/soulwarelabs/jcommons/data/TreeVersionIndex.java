@@ -0,0 +1,152 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     TreeVersionIndex.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Version index based on a red-black tree.
+ * <p>
+ * Every operation takes logarithmic time. Versions which are not snapshots
+ * are also kept in a separate tree, so the latest release is found without
+ * skipping snapshots. Not designed to be thread-safe.
+ *
+ * @see ConcurrentVersionIndex
+ * @see VersionIndex
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class TreeVersionIndex extends AbstractVersionIndex {
+
+    private final TreeMap<Version, Version> releases;
+    private final TreeMap<Version, Version> versions;
+
+    /**
+     * Creates a new empty version index.
+     *
+     * @since v1.1.0
+     */
+    public TreeVersionIndex() {
+        releases = new TreeMap<Version, Version>();
+        versions = new TreeMap<Version, Version>();
+    }
+
+    @Override
+    public boolean add(Version version) {
+        check(version);
+        if (versions.containsKey(version)) {
+            return false;
+        }
+        Version frozen = Version.toFrozen(version);
+        versions.put(frozen, frozen);
+        if (!frozen.isSnapshot()) {
+            releases.put(frozen, frozen);
+        }
+        return true;
+    }
+
+    @Override
+    public Version ceiling(Version version) {
+        SortedMap<Version, Version> tail = versions.tailMap(check(version));
+        return tail.isEmpty() ? null : tail.firstKey();
+    }
+
+    @Override
+    public boolean contains(Version version) {
+        return versions.containsKey(check(version));
+    }
+
+    @Override
+    public Version floor(Version version) {
+        Version result = versions.get(check(version));
+        return result != null ? result : lower(version);
+    }
+
+    @Override
+    public Version getLatest() {
+        return versions.isEmpty() ? null : versions.lastKey();
+    }
+
+    @Override
+    public Version getLatestRelease() {
+        return releases.isEmpty() ? null : releases.lastKey();
+    }
+
+    @Override
+    public int getSize() {
+        return versions.size();
+    }
+
+    @Override
+    public Iterator<Version> iterator() {
+        return Collections.unmodifiableSet(versions.keySet()).iterator();
+    }
+
+    @Override
+    public boolean remove(Version version) {
+        if (versions.remove(check(version)) == null) {
+            return false;
+        }
+        releases.remove(version);
+        return true;
+    }
+
+    @Override
+    public List<Version> select(VersionRange range) {
+        if (range == null) {
+            throw new NullPointerException("range is null");
+        }
+        SortedMap<Version, Version> tail = versions;
+        if (range.getLower() != null) {
+            tail = versions.tailMap(range.getLower());
+        }
+        List<Version> result = new ArrayList<Version>();
+        for (Version version : tail.keySet()) {
+            int location = range.locate(version);
+            if (location > 0) {
+                break;
+            }
+            if (location == 0) {
+                result.add(version);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected Version lower(Version version) {
+        SortedMap<Version, Version> head = versions.headMap(version);
+        return head.isEmpty() ? null : head.lastKey();
+    }
+}
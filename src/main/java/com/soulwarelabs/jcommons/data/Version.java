@@ -4,7 +4,7 @@
  *
  * File:     Version.java
  * Folder:   src/main/java/com/soulwarelabs/jcommons/data
- * Revision: 1.09, 30 August 2014
+ * Revision: 1.13, 18 October 2026
  * Created:  10 May 2014
  * Authors:  Ilya Gubarev
  *
@@ -25,27 +25,34 @@
  */
 package com.soulwarelabs.jcommons.data;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.io.IOException;
 
+import com.soulwarelabs.jcommons.AppendablePrintable;
+import com.soulwarelabs.jcommons.Freezable;
 import com.soulwarelabs.jcommons.Pojo;
-import com.soulwarelabs.jcommons.Printable;
 
 /**
  * Semantic version descriptor.
  * <p>
  * Learn more about semantic versioning at "http://semver.org".
+ * <p>
+ * Frozen versions, including ones obtained from {@link #intern(String)},
+ * reject any modifications and cache their hash codes, so they can be
+ * shared and used as hash map keys. Use {@link #copy()} to get a
+ * modifiable version.
  *
+ * @see AppendablePrintable
  * @see Comparable
+ * @see Freezable
  * @see Pojo
- * @see Printable
  *
  * @since v1.1.0
  *
  * @author Ilya Gubarev
- * @version 30 August 2014
+ * @version 17 October 2026
  */
-public class Version extends Pojo implements Comparable<Version>, Printable {
+public class Version extends Pojo
+        implements AppendablePrintable, Comparable<Version>, Freezable {
 
     /**
      * Index of a major version number.
@@ -68,6 +75,9 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      */
     public static final int PATCH_INDEX = 3;
 
+    private static final String SNAPSHOT_SUFFIX = "-SNAPSHOT";
+    private static final String UNKNOWN = "unknown";
+
     /**
      * Create a new copy of version descriptor.
      *
@@ -81,18 +91,29 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
             return null;
         }
         Version result = new Version();
-        result.labels = new LinkedList<String>(version.labels);
-        result.numbers = new LinkedList<Integer>(version.numbers);
+        if (version.labels != null) {
+            result.labels = version.labels.clone();
+        }
+        result.length = version.length;
+        result.numbers = version.numbers.clone();
         result.snapshot = version.snapshot;
         return result;
     }
 
     /**
      * Creates a new version descriptor based on its string presentation.
+     * <p>
+     * Accepts the format produced by {@link #print()}: dot separated
+     * numbers, each optionally followed by a dash and a label, and an
+     * optional "-SNAPSHOT" suffix (case insensitive). The "unknown" string
+     * stands for a version without numbers.
      *
      * @param version string presentation of a version.
      * @return version descriptor.
-     * @throws RuntimeException if error occurs while parsing the version.
+     * @throws IllegalArgumentException if version format is illegal.
+     * @throws NullPointerException if version is null.
+     *
+     * @see #parse(CharSequence, int, int)
      *
      * @since v1.1.0
      */
@@ -100,27 +121,238 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
         if (version == null) {
             throw new NullPointerException("version is null");
         }
+        return parse(version, 0, version.length());
+    }
+
+    /**
+     * Creates a new version descriptor based on its string presentation
+     * located in a region of a character sequence.
+     *
+     * @param version character sequence containing a version.
+     * @param start region start index (inclusive).
+     * @param end region end index (exclusive).
+     * @return version descriptor.
+     * @throws IllegalArgumentException if version format is illegal.
+     * @throws IndexOutOfBoundsException if specified region is illegal.
+     * @throws NullPointerException if version is null.
+     *
+     * @see #parse(String)
+     *
+     * @since v1.1.0
+     */
+    public static Version parse(CharSequence version, int start, int end) {
+        if (version == null) {
+            throw new NullPointerException("version is null");
+        }
+        if (start < 0 || start > end || end > version.length()) {
+            String message = String.format("illegal region: %d-%d", start,
+                    end);
+            throw new IndexOutOfBoundsException(message);
+        }
         Version result = new Version();
-        String[] numbers = version.split(".");
-        for (int i = 0; i < numbers.length; i++) {
-            String parts[] = numbers[i].split("-");
-            int number = Integer.parseInt(parts[0]);
-            StringBuilder label = new StringBuilder();
-            for (int j = 1; j < parts.length; j++) {
-                if ((i < numbers.length - 1) && (j < parts.length - 1)){
-                    label.append('-').append(parts[j]);
-                } else {
-                    result.setSnapshot(parts[j].equalsIgnoreCase("SNAPSHOT"));
+        if (matches(version, start, end, UNKNOWN)) {
+            return result;
+        }
+        int limit = end;
+        if (limit - start > SNAPSHOT_SUFFIX.length() && matches(version,
+                limit - SNAPSHOT_SUFFIX.length(), limit, SNAPSHOT_SUFFIX)) {
+            limit -= SNAPSHOT_SUFFIX.length();
+            result.snapshot = true;
+        }
+        int position = start;
+        while (true) {
+            int digits = position;
+            int number = 0;
+            while (position < limit) {
+                int digit = version.charAt(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (number > (Integer.MAX_VALUE - digit) / 10) {
+                    throw illegalVersion(version, start, end);
+                }
+                number = number * 10 + digit;
+                position++;
+            }
+            if (position == digits) {
+                throw illegalVersion(version, start, end);
+            }
+            String label = null;
+            if (position < limit && version.charAt(position) == '-') {
+                int labelStart = ++position;
+                while (position < limit && version.charAt(position) != '.') {
+                    position++;
                 }
+                if (position == labelStart) {
+                    throw illegalVersion(version, start, end);
+                }
+                label = version.subSequence(labelStart, position).toString();
+            }
+            result.appendNumber(number, label);
+            if (position == limit) {
+                return result;
+            }
+            if (version.charAt(position++) != '.') {
+                throw illegalVersion(version, start, end);
             }
-            result.append(number, label.toString());
         }
-        return result;
     }
 
-    private List<String> labels;
-    private List<Integer> numbers;
+    /**
+     * Gets a canonical frozen version descriptor based on its string
+     * presentation.
+     * <p>
+     * Equal versions share the same descriptor while it stays in the
+     * default {@link VersionCache}.
+     *
+     * @param version string presentation of a version.
+     * @return frozen version descriptor.
+     * @throws IllegalArgumentException if version format is illegal.
+     * @throws NullPointerException if version is null.
+     *
+     * @see VersionCache#intern(String)
+     *
+     * @since v1.1.0
+     */
+    public static Version intern(String version) {
+        return VersionCache.DEFAULT.intern(version);
+    }
+
+    /**
+     * Creates a new version descriptor based on its byte-comparable key.
+     *
+     * @param key byte-comparable key.
+     * @return version descriptor.
+     * @throws IllegalArgumentException if key format is illegal.
+     * @throws NullPointerException if key is null.
+     *
+     * @see #toKey()
+     *
+     * @since v1.1.0
+     */
+    public static Version parseKey(byte[] key) {
+        if (key == null) {
+            throw new NullPointerException("key is null");
+        }
+        return parseKey(key, 0, key.length);
+    }
+
+    /**
+     * Creates a new version descriptor based on its byte-comparable key
+     * located in a region of a byte array.
+     *
+     * @param key byte array containing a key.
+     * @param offset key offset.
+     * @param length key length.
+     * @return version descriptor.
+     * @throws IllegalArgumentException if key format is illegal.
+     * @throws IndexOutOfBoundsException if specified region is illegal.
+     * @throws NullPointerException if key is null.
+     *
+     * @see #toKey()
+     *
+     * @since v1.1.0
+     */
+    public static Version parseKey(byte[] key, int offset, int length) {
+        if (key == null) {
+            throw new NullPointerException("key is null");
+        }
+        if (offset < 0 || length < 0 || offset + length > key.length) {
+            String message = String.format("illegal region: %d+%d", offset,
+                    length);
+            throw new IndexOutOfBoundsException(message);
+        }
+        return VersionKey.decode(key, offset, length);
+    }
+
+    /**
+     * Gets a frozen version equal to specified one.
+     *
+     * @param version version descriptor (optional).
+     * @return the same version if it is frozen or its frozen copy otherwise
+     * (optional).
+     *
+     * @since v1.1.0
+     */
+    static Version toFrozen(Version version) {
+        if (version == null || version.frozen) {
+            return version;
+        }
+        return copy(version).freeze();
+    }
+
+    private static IllegalArgumentException illegalVersion(
+            CharSequence version, int start, int end) {
+        String message = String.format("illegal version: %s",
+                version.subSequence(start, end));
+        return new IllegalArgumentException(message);
+    }
+
+    private static int putNumber(byte[] buffer, int offset, int number) {
+        if (number < 0) {
+            return putText(buffer, offset, Integer.toString(number));
+        }
+        int end = offset + 1;
+        for (int rest = number / 10; rest > 0; rest /= 10) {
+            end++;
+        }
+        if (end > buffer.length) {
+            throw new IndexOutOfBoundsException("buffer is too small");
+        }
+        int position = end;
+        do {
+            buffer[--position] = (byte) ('0' + number % 10);
+            number /= 10;
+        } while (number > 0);
+        return end;
+    }
+
+    private static int putText(byte[] buffer, int offset, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[offset++] = (byte) (0xC0 | (c >> 6));
+                buffer[offset++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int code = Character.toCodePoint(c, text.charAt(++i));
+                buffer[offset++] = (byte) (0xF0 | (code >> 18));
+                buffer[offset++] = (byte) (0x80 | ((code >> 12) & 0x3F));
+                buffer[offset++] = (byte) (0x80 | ((code >> 6) & 0x3F));
+                buffer[offset++] = (byte) (0x80 | (code & 0x3F));
+            } else {
+                buffer[offset++] = (byte) (0xE0 | (c >> 12));
+                buffer[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[offset++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return offset;
+    }
+
+    private static boolean matches(CharSequence sequence, int start, int end,
+            String sample) {
+        if (end - start != sample.length()) {
+            return false;
+        }
+        for (int i = 0; i < sample.length(); i++) {
+            char c = sequence.charAt(start + i);
+            if (Character.toUpperCase(c) !=
+                    Character.toUpperCase(sample.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String[] labels;
+    private int length;
+    private int[] numbers;
     private boolean snapshot;
+    private boolean frozen;
+    private transient int hash;
+    private transient String text;
 
     /**
      * Creates a new version descriptor.
@@ -151,7 +383,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @since v1.1.0
      */
     public int getLength() {
-        return numbers.size();
+        return length;
     }
 
     /**
@@ -175,7 +407,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @since v1.1.0
      */
     public boolean isMajorAvailable() {
-        return numbers.size() >= MAJOR_INDEX;
+        return length >= MAJOR_INDEX;
     }
 
     /**
@@ -196,6 +428,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param major major version number (not negative).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @see #setMajor(int, String)
@@ -212,6 +445,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @param major major version number (not negative).
      * @param label major version number label (optional).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @see #setNumber(int, int, String)
@@ -243,7 +477,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @since v1.1.0
      */
     public boolean isMinorAvailable() {
-        return numbers.size() >= MINOR_INDEX;
+        return length >= MINOR_INDEX;
     }
 
     /**
@@ -264,6 +498,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param minor minor version number (not negative).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @see #setMinor(int, String)
@@ -280,6 +515,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @param minor minor version number (not negative).
      * @param label minor version number label (optional).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @see #setNumber(int, int, String)
@@ -311,7 +547,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @since v1.1.0
      */
     public boolean isPatchAvailable() {
-        return numbers.size() >= PATCH_INDEX;
+        return length >= PATCH_INDEX;
     }
 
     /**
@@ -332,6 +568,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param patch patch version number (not negative).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @see #setPatch(int, String)
@@ -348,6 +585,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @param patch patch version number (not negative).
      * @param label patch version number label (optional).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @see #setNumber(int, int, String)
@@ -358,6 +596,11 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
         return setNumber(PATCH_INDEX, patch, label);
     }
 
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * Gets this version snapshot status.
      * 
@@ -374,10 +617,12 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param snapshot true if this version is a snapshot.
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      *
      * @since v1.1.0
      */
     public Version setSnapshot(boolean snapshot) {
+        checkMutable();
         this.snapshot = snapshot;
         return this;
     }
@@ -387,6 +632,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param number version number (not negative).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @since v1.1.0
@@ -401,15 +647,79 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @param number version number (not negative).
      * @param label version number label (optional).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if version number is illegal.
      *
      * @since v1.1.0
      */
     public Version append(int number, String label) {
+        checkMutable();
         validateNumber(number);
         return appendNumber(number, label);
     }
 
+    /**
+     * Appends string presentation of the version to a string builder.
+     * <p>
+     * Numbers are written as digits directly, frozen versions append their
+     * cached presentation.
+     *
+     * @param sink target string builder.
+     * @return the same string builder.
+     * @throws NullPointerException if sink is null.
+     *
+     * @see #print()
+     *
+     * @since v1.1.0
+     */
+    public StringBuilder appendTo(StringBuilder sink) {
+        if (sink == null) {
+            throw new NullPointerException("sink is null");
+        }
+        if (frozen || length == 0) {
+            return sink.append(getText());
+        }
+        return render(sink);
+    }
+
+    /**
+     * Writes string presentation of the version into a byte array using
+     * UTF-8 encoding.
+     *
+     * @param buffer target byte array.
+     * @param offset first byte index.
+     * @return index following the last written byte.
+     * @throws IndexOutOfBoundsException if the presentation does not fit.
+     * @throws NullPointerException if buffer is null.
+     *
+     * @see #print()
+     *
+     * @since v1.1.0
+     */
+    public int appendTo(byte[] buffer, int offset) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer is null");
+        }
+        if (frozen || length == 0) {
+            return putText(buffer, offset, getText());
+        }
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                buffer[offset++] = '.';
+            }
+            offset = putNumber(buffer, offset, numbers[i]);
+            String label = getLabel(i);
+            if (label != null) {
+                buffer[offset++] = '-';
+                offset = putText(buffer, offset, label);
+            }
+        }
+        if (snapshot) {
+            offset = putText(buffer, offset, SNAPSHOT_SUFFIX);
+        }
+        return offset;
+    }
+
     @Override
     @SuppressWarnings({"unchecked"})
     public <T> T copy() {
@@ -422,16 +732,17 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
         if (version == null) {
             throw new NullPointerException("version is null");
         }
-        for (int i = 0; i < numbers.size(); i++) {
-            if (i >= version.numbers.size()) {
-                return 1;
-            }
-            int numberDelta = numbers.get(i) - version.numbers.get(i);
+        if (version == this) {
+            return 0;
+        }
+        int common = Math.min(length, version.length);
+        for (int i = 0; i < common; i++) {
+            int numberDelta = numbers[i] - version.numbers[i];
             if (numberDelta != 0) {
                 return numberDelta;
             }
-            String label = labels.get(i);
-            String sampleLabel = version.labels.get(i);
+            String label = getLabel(i);
+            String sampleLabel = version.getLabel(i);
             if (label == null ^ sampleLabel == null) {
                 return label == null ? 1 : -1;
             }
@@ -442,6 +753,9 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
                 }
             }
         }
+        if (length != version.length) {
+            return length < version.length ? -1 : 1;
+        }
         if (snapshot ^ version.snapshot) {
             return snapshot ? -1 : 1;
         }
@@ -453,20 +767,30 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param index last number index (positive).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if specified index is illegal.
      *
      * @since v1.1.0
      */
     public Version cutoff(int index) {
-        if (!isBeyondBounds(index)) {
-            labels = labels.subList(--index, labels.size());
-            numbers = numbers.subList(index, numbers.size());
+        checkMutable();
+        if (!isBeyondBounds(index--)) {
+            System.arraycopy(numbers, index, numbers, 0, length - index);
+            length -= index;
+            if (labels != null) {
+                for (int i = 0; i < labels.length; i++) {
+                    labels[i] = i < length ? getLabel(i + index) : null;
+                }
+            }
         }
         return this;
     }
 
     @Override
     public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
         if (object == null) {
             return false;
         }
@@ -474,18 +798,29 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
             return false;
         }
         Version other = (Version) object;
-        if (labels == null || !labels.equals(other.labels)) {
+        if (length != other.length || snapshot != other.snapshot) {
             return false;
         }
-        if (numbers == null || !numbers.equals(other.numbers)) {
-            return false;
-        }
-        if (snapshot != other.snapshot) {
-            return false;
+        for (int i = 0; i < length; i++) {
+            if (numbers[i] != other.numbers[i]) {
+                return false;
+            }
+            String label = getLabel(i);
+            String otherLabel = other.getLabel(i);
+            if (label == null ? otherLabel != null
+                    : !label.equals(otherLabel)) {
+                return false;
+            }
         }
         return true;
     }
 
+    @Override
+    public Version freeze() {
+        frozen = true;
+        return this;
+    }
+
     /**
      * Gets a version number if available.
      *
@@ -499,7 +834,7 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
         if (isBeyondBounds(index)) {
             return null;
         } else {
-            return numbers.get(--index);
+            return numbers[--index];
         }
     }
 
@@ -516,40 +851,59 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
         if (isBeyondBounds(index)) {
             return null;
         } else {
-            return labels.get(--index);
+            return getLabel(--index);
         }
     }
 
     @Override
     public int hashCode() {
+        if (frozen && hash != 0) {
+            return hash;
+        }
         int result = 7;
-        result = 67 * result + (labels != null ? labels.hashCode() : 0);
-        result = 67 * result + (numbers != null ? numbers.hashCode() : 0);
+        for (int i = 0; i < length; i++) {
+            String label = getLabel(i);
+            result = 67 * result + (label != null ? label.hashCode() : 0);
+            result = 67 * result + numbers[i];
+        }
         result = 67 * result + (snapshot ? 1 : 0);
+        if (frozen) {
+            hash = result;
+        }
         return result;
     }
 
     @Override
     public StringBuilder print() {
-        int length = numbers.size();
-        if (length == 0) {
-            return new StringBuilder("unknown");
-        }
-        StringBuilder result = new StringBuilder();
-        for (int index = 0; index < length; index++) {
-            result.append(numbers.get(index));
-            String label = labels.get(index);
-            if (label != null) {
-                result.append('-').append(label);
+        if (frozen) {
+            return new StringBuilder(getText());
+        }
+        return appendTo(new StringBuilder());
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        if (sink instanceof StringBuilder) {
+            appendTo((StringBuilder) sink);
+            return;
+        }
+        if (frozen || length == 0) {
+            sink.append(getText());
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sink.append('.');
             }
-            if (index < length - 1) {
-                result.append('.');
+            sink.append(Integer.toString(numbers[i]));
+            String label = getLabel(i);
+            if (label != null) {
+                sink.append('-').append(label);
             }
         }
         if (snapshot) {
-            result.append("-SNAPSHOT");
+            sink.append(SNAPSHOT_SUFFIX);
         }
-        return result;
     }
 
     /**
@@ -557,24 +911,28 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      *
      * @param numbers new version numbers.
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if any version number is illegal.
      * @throws NullPointerException is numbers is null;
      *
      * @since v1.1.0
      */
     public Version reset(int... numbers) {
+        checkMutable();
         for (int number : numbers) {
             validateNumber(number);
         }
         return resetNumbers(numbers);
     }
 
+
     /**
      * Sets a new version number.
      *
      * @param index available version number index.
      * @param number version number (not negative).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if either index or number are illegal.
      *
      * @since v1.1.0
@@ -590,47 +948,137 @@ public class Version extends Pojo implements Comparable<Version>, Printable {
      * @param number version number (not negative).
      * @param label version number label (optional).
      * @return version descriptor.
+     * @throws UnsupportedOperationException if version is frozen.
      * @throws IllegalArgumentException if either index or number are illegal.
      *
      * @since v1.1.0
      */
     public Version setNumber(int index, int number, String label) {
+        checkMutable();
         validateNumber(number);
         if (isBeyondBounds(index)) {
             String message = String.format("illegal number index: %d", index);
             throw new IllegalArgumentException(message);
         }
-        labels.set(--index, label);
-        numbers.set(index, number);
+        numbers[--index] = number;
+        setLabel(index, label);
         return this;
     }
 
+    /**
+     * Creates a byte-comparable key of the version.
+     * <p>
+     * Keys compared as unsigned byte sequences are ordered as versions are
+     * ordered by {@link #compareTo(Version)}, so they can be used in sorted
+     * byte stores.
+     *
+     * @return byte-comparable key.
+     *
+     * @see #parseKey(byte[])
+     *
+     * @since v1.1.0
+     */
+    public byte[] toKey() {
+        return VersionKey.encode(this);
+    }
+
+    @Override
+    public String toString() {
+        // NOTE: the same presentation as printed by Pojo.print(Object)
+        return new StringBuilder(getText().length() + 2).append('"')
+                .append(getText()).append('"').toString();
+    }
+
     private Version appendNumber(int number, String label) {
-        labels.add(label);
-        numbers.add(number);
+        if (length == numbers.length) {
+            int[] grown = new int[Math.max(4, length * 2)];
+            System.arraycopy(numbers, 0, grown, 0, length);
+            numbers = grown;
+        }
+        numbers[length] = number;
+        setLabel(length++, label);
         return this;
     }
 
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("version is frozen");
+        }
+    }
+
+    private String getLabel(int position) {
+        if (labels == null || position >= labels.length) {
+            return null;
+        }
+        return labels[position];
+    }
+
+    private String getText() {
+        String result = text;
+        if (result == null) {
+            if (length == 0) {
+                return UNKNOWN;
+            }
+            result = render(new StringBuilder()).toString();
+            if (frozen) {
+                text = result;
+            }
+        }
+        return result;
+    }
+
     private boolean isBeyondBounds(int index) {
         if (index < 1) {
             String message = String.format("index is not positive: %d", index);
             throw new IllegalArgumentException(message);
         }
-        return index > numbers.size();
+        return index > length;
+    }
+
+    private StringBuilder render(StringBuilder sink) {
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sink.append('.');
+            }
+            sink.append(numbers[i]);
+            String label = getLabel(i);
+            if (label != null) {
+                sink.append('-').append(label);
+            }
+        }
+        if (snapshot) {
+            sink.append(SNAPSHOT_SUFFIX);
+        }
+        return sink;
     }
 
     private Version resetNumbers(int... numbers) {
         if (numbers == null) {
             throw new NullPointerException("numbers are null");
         }
-        this.labels = new LinkedList<String>();
-        this.numbers = new LinkedList<Integer>();
-        for (int number : numbers) {
-            appendNumber(number, null);
-        }
+        this.labels = null;
+        this.length = numbers.length;
+        this.numbers = numbers.clone();
         return this;
     }
 
+    private void setLabel(int position, String label) {
+        if (labels == null) {
+            if (label == null) {
+                return;
+            }
+            labels = new String[numbers.length];
+        } else if (position >= labels.length) {
+            if (label == null) {
+                return;
+            }
+            String[] grown = new String[numbers.length];
+            System.arraycopy(labels, 0, grown, 0, labels.length);
+            labels = grown;
+        }
+        labels[position] = label;
+    }
+
     private Version validateNumber(int number) {
         if (number < 0) {
             String message = String.format("number is negative: %d", number);
@@ -0,0 +1,270 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionCache.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Canonical version descriptor cache.
+ * <p>
+ * Maps string presentations and values of versions to shared frozen
+ * descriptors, so equal versions are represented by the same instance.
+ * The cache is bounded: entries are kept in two generations, when the
+ * current generation exceeds the capacity it replaces the previous one,
+ * which is discarded. Entries used since the last replacement are moved to
+ * the current generation.
+ * <p>
+ * Designed to be thread-safe. Concurrent callers may occasionally get
+ * distinct but equal descriptors while generations are replaced.
+ *
+ * @see Version
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionCache {
+
+    /**
+     * Default cache capacity.
+     *
+     * @since v1.1.0
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Default cache used by {@link Version#intern(String)}.
+     *
+     * @since v1.1.0
+     */
+    static final VersionCache DEFAULT = new VersionCache();
+
+    private final int capacity;
+    private final Generations<String> strings;
+    private final Generations<Version> values;
+
+    /**
+     * Creates a new version cache with the default capacity.
+     *
+     * @see #DEFAULT_CAPACITY
+     *
+     * @since v1.1.0
+     */
+    public VersionCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new version cache.
+     *
+     * @param capacity maximum amount of entries per generation (positive).
+     * @throws IllegalArgumentException if capacity is not positive.
+     *
+     * @since v1.1.0
+     */
+    public VersionCache(int capacity) {
+        if (capacity < 1) {
+            String message = String.format("capacity is not positive: %d",
+                    capacity);
+            throw new IllegalArgumentException(message);
+        }
+        this.capacity = capacity;
+        this.strings = new Generations<String>();
+        this.values = new Generations<Version>();
+    }
+
+    /**
+     * Gets maximum amount of entries per generation.
+     *
+     * @return cache capacity.
+     *
+     * @since v1.1.0
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all cached entries.
+     *
+     * @since v1.1.0
+     */
+    public void clear() {
+        strings.clear();
+        values.clear();
+    }
+
+    /**
+     * Gets a canonical frozen version descriptor based on its string
+     * presentation.
+     *
+     * @param version string presentation of a version.
+     * @return frozen version descriptor.
+     * @throws IllegalArgumentException if version format is illegal.
+     * @throws NullPointerException if version is null.
+     *
+     * @see Version#parse(String)
+     *
+     * @since v1.1.0
+     */
+    public Version intern(String version) {
+        if (version == null) {
+            throw new NullPointerException("version is null");
+        }
+        Version result = strings.get(version);
+        if (result == null) {
+            result = canonize(Version.parse(version).freeze());
+            strings.put(version, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets a canonical frozen version descriptor equal to specified one.
+     *
+     * @param version version descriptor (optional).
+     * @return frozen version descriptor (optional).
+     *
+     * @since v1.1.0
+     */
+    public Version intern(Version version) {
+        if (version == null) {
+            return null;
+        }
+        Version result = values.get(version);
+        if (result == null) {
+            result = canonize(Version.toFrozen(version));
+        }
+        return result;
+    }
+
+    private Version canonize(Version version) {
+        Version result = values.get(version);
+        if (result == null) {
+            result = values.putIfAbsent(version, version);
+        }
+        return result != null ? result : version;
+    }
+
+    /**
+     * Two generations of cache entries.
+     *
+     * @param <K> entry key type.
+     *
+     * @since v1.1.0
+     */
+    private class Generations<K> {
+
+        private volatile ConcurrentMap<K, Version> current;
+        private volatile ConcurrentMap<K, Version> previous;
+        private final AtomicInteger size;
+
+        /**
+         * Creates new empty generations.
+         *
+         * @since v1.1.0
+         */
+        public Generations() {
+            current = new ConcurrentHashMap<K, Version>();
+            previous = new ConcurrentHashMap<K, Version>();
+            size = new AtomicInteger();
+        }
+
+        /**
+         * Removes all entries.
+         *
+         * @since v1.1.0
+         */
+        public synchronized void clear() {
+            current = new ConcurrentHashMap<K, Version>();
+            previous = new ConcurrentHashMap<K, Version>();
+            size.set(0);
+        }
+
+        /**
+         * Gets a cached version, moving it to the current generation.
+         *
+         * @param key entry key.
+         * @return cached version (optional).
+         *
+         * @since v1.1.0
+         */
+        public Version get(K key) {
+            Version result = current.get(key);
+            if (result == null) {
+                result = previous.get(key);
+                if (result != null) {
+                    putIfAbsent(key, result);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Puts a version into the current generation.
+         *
+         * @param key entry key.
+         * @param version cached version.
+         *
+         * @since v1.1.0
+         */
+        public void put(K key, Version version) {
+            putIfAbsent(key, version);
+        }
+
+        /**
+         * Puts a version into the current generation unless the key is
+         * already mapped there.
+         *
+         * @param key entry key.
+         * @param version cached version.
+         * @return previously cached version (optional).
+         *
+         * @since v1.1.0
+         */
+        public Version putIfAbsent(K key, Version version) {
+            ConcurrentMap<K, Version> generation = current;
+            Version result = generation.putIfAbsent(key, version);
+            // NOTE: entries racing with a replacement may be counted by the
+            // next generation, which is only replaced slightly earlier then
+            if (result == null && size.incrementAndGet() > capacity) {
+                rotate(generation);
+            }
+            return result;
+        }
+
+        private synchronized void rotate(ConcurrentMap<K, Version> full) {
+            if (current == full) {
+                previous = full;
+                current = new ConcurrentHashMap<K, Version>();
+                size.set(0);
+            }
+        }
+    }
+}
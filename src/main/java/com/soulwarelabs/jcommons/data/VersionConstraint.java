@@ -0,0 +1,524 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionConstraint.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import com.soulwarelabs.jcommons.AppendablePrintable;
+import com.soulwarelabs.jcommons.Pojo;
+
+/**
+ * Version constraint.
+ * <p>
+ * A union of version ranges compiled into a sorted list of disjoint
+ * ranges, so a single version is matched with a binary search and a sorted
+ * list of candidates is filtered in one pass. Constraints are immutable.
+ * <p>
+ * Two syntaxes are supported by {@link #parse(String)}:
+ * <ul>
+ * <li>Maven ranges: "[1.0,2.0)", "(,1.0]", "[1.5]", "[1.0,2.0),[3.0,)";</li>
+ * <li>comparison operators "=", "!=", "&gt;", "&gt;=", "&lt;", "&lt;=":
+ * space separated comparisons are intersected and alternatives are
+ * separated by "||", e.g. "&gt;=1.2 &lt;2.0 || &gt;=3.1.0-SNAPSHOT".</li>
+ * </ul>
+ * A bare version stands for that exact version in both syntaxes.
+ *
+ * @see Version
+ * @see VersionRange
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionConstraint implements AppendablePrintable, Serializable {
+
+    /**
+     * Constraint matching any version.
+     *
+     * @since v1.1.0
+     */
+    public static final VersionConstraint ANY = new VersionConstraint(
+            new VersionRange(null, false, null, false));
+
+    /**
+     * Constraint matching no versions.
+     *
+     * @since v1.1.0
+     */
+    public static final VersionConstraint NONE = new VersionConstraint();
+
+    private static final Comparator<VersionRange> LOWERS =
+            new Comparator<VersionRange>() {
+
+        @Override
+        public int compare(VersionRange first, VersionRange second) {
+            return VersionRange.compareLowers(first, second);
+        }
+    };
+
+    /**
+     * Creates a new version constraint based on its string presentation.
+     *
+     * @param constraint string presentation of a constraint.
+     * @return version constraint.
+     * @throws IllegalArgumentException if constraint format is illegal.
+     * @throws NullPointerException if constraint is null.
+     *
+     * @since v1.1.0
+     */
+    public static VersionConstraint parse(String constraint) {
+        if (constraint == null) {
+            throw new NullPointerException("constraint is null");
+        }
+        int start = skipSpaces(constraint, 0, constraint.length());
+        if (start == constraint.length()) {
+            throw illegalConstraint(constraint);
+        }
+        char first = constraint.charAt(start);
+        if (first == '[' || first == '(') {
+            return parseRanges(constraint, start);
+        } else {
+            return parseComparisons(constraint, start);
+        }
+    }
+
+    private static IllegalArgumentException illegalConstraint(
+            String constraint) {
+        String message = String.format("illegal constraint: %s", constraint);
+        return new IllegalArgumentException(message);
+    }
+
+    private static VersionRange[] intersect(VersionRange[] first,
+            VersionRange[] second) {
+        List<VersionRange> result = new ArrayList<VersionRange>();
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            VersionRange lower = VersionRange.compareLowers(first[i],
+                    second[j]) >= 0 ? first[i] : second[j];
+            int delta = VersionRange.compareUppers(first[i], second[j]);
+            VersionRange upper = delta <= 0 ? first[i] : second[j];
+            VersionRange range = VersionRange.join(lower, upper);
+            if (range != null) {
+                result.add(range);
+            }
+            if (delta <= 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return result.toArray(new VersionRange[result.size()]);
+    }
+
+    private static VersionRange[] merge(VersionRange[] ranges) {
+        if (ranges.length < 2) {
+            return ranges;
+        }
+        VersionRange[] sorted = ranges;
+        Arrays.sort(sorted, LOWERS);
+        List<VersionRange> result = new ArrayList<VersionRange>();
+        VersionRange current = sorted[0];
+        for (int i = 1; i < sorted.length; i++) {
+            VersionRange next = sorted[i];
+            if (VersionRange.isAdjoining(current, next)) {
+                if (VersionRange.compareUppers(next, current) > 0) {
+                    current = VersionRange.join(current, next);
+                }
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        result.add(current);
+        return result.toArray(new VersionRange[result.size()]);
+    }
+
+    private static VersionRange[] parseComparison(String constraint,
+            int start, int end) {
+        int position = skipOperator(constraint, start, end);
+        String operator = constraint.substring(start, position);
+        position = skipSpaces(constraint, position, end);
+        if (position == end) {
+            throw illegalConstraint(constraint);
+        }
+        Version version = Version.parse(constraint, position, end).freeze();
+        if (operator.length() == 0 || operator.equals("=")) {
+            return new VersionRange[] {new VersionRange(version)};
+        } else if (operator.equals("!=")) {
+            return new VersionRange[] {
+                new VersionRange(null, false, version, false),
+                new VersionRange(version, false, null, false)};
+        } else if (operator.equals(">")) {
+            return new VersionRange[] {
+                new VersionRange(version, false, null, false)};
+        } else if (operator.equals(">=")) {
+            return new VersionRange[] {
+                new VersionRange(version, true, null, false)};
+        } else if (operator.equals("<")) {
+            return new VersionRange[] {
+                new VersionRange(null, false, version, false)};
+        } else if (operator.equals("<=")) {
+            return new VersionRange[] {
+                new VersionRange(null, false, version, true)};
+        }
+        throw illegalConstraint(constraint);
+    }
+
+    private static VersionConstraint parseComparisons(String constraint,
+            int start) {
+        List<VersionRange> result = new ArrayList<VersionRange>();
+        int end = constraint.length();
+        int position = start;
+        while (true) {
+            int alternativeEnd = constraint.indexOf("||", position);
+            if (alternativeEnd < 0) {
+                alternativeEnd = end;
+            }
+            VersionRange[] alternative = null;
+            position = skipSpaces(constraint, position, alternativeEnd);
+            while (position < alternativeEnd) {
+                int comparisonEnd = skipOperator(constraint, position,
+                        alternativeEnd);
+                comparisonEnd = skipSpaces(constraint, comparisonEnd,
+                        alternativeEnd);
+                while (comparisonEnd < alternativeEnd && !Character
+                        .isWhitespace(constraint.charAt(comparisonEnd))) {
+                    comparisonEnd++;
+                }
+                VersionRange[] comparison = parseComparison(constraint,
+                        position, comparisonEnd);
+                alternative = alternative == null ? comparison
+                        : intersect(alternative, comparison);
+                position = skipSpaces(constraint, comparisonEnd,
+                        alternativeEnd);
+            }
+            if (alternative == null) {
+                throw illegalConstraint(constraint);
+            }
+            result.addAll(Arrays.asList(alternative));
+            if (alternativeEnd == end) {
+                break;
+            }
+            position = alternativeEnd + 2;
+        }
+        return new VersionConstraint(result.toArray(
+                new VersionRange[result.size()]));
+    }
+
+    private static VersionRange parseRange(String constraint, int start,
+            int end) {
+        boolean lowerInclusive = constraint.charAt(start) == '[';
+        boolean upperInclusive = constraint.charAt(end - 1) == ']';
+        int comma = constraint.indexOf(',', start);
+        if (comma < 0 || comma >= end) {
+            int from = skipSpaces(constraint, start + 1, end - 1);
+            int to = trimSpaces(constraint, from, end - 1);
+            if (from == to) {
+                return null;
+            }
+            if (!lowerInclusive || !upperInclusive) {
+                throw illegalConstraint(constraint);
+            }
+            return new VersionRange(Version.parse(constraint, from, to)
+                    .freeze());
+        }
+        Version lower = parseBound(constraint, start + 1, comma);
+        Version upper = parseBound(constraint, comma + 1, end - 1);
+        try {
+            return new VersionRange(lower, lowerInclusive, upper,
+                    upperInclusive);
+        } catch (IllegalArgumentException e) {
+            throw illegalConstraint(constraint);
+        }
+    }
+
+    private static Version parseBound(String constraint, int start,
+            int end) {
+        int from = skipSpaces(constraint, start, end);
+        int to = trimSpaces(constraint, from, end);
+        return from == to ? null : Version.parse(constraint, from, to)
+                .freeze();
+    }
+
+    private static VersionConstraint parseRanges(String constraint,
+            int start) {
+        List<VersionRange> result = new ArrayList<VersionRange>();
+        int end = constraint.length();
+        int position = start;
+        while (true) {
+            char opening = constraint.charAt(position);
+            if (opening != '[' && opening != '(') {
+                throw illegalConstraint(constraint);
+            }
+            int closing = position + 1;
+            while (closing < end && constraint.charAt(closing) != ']'
+                    && constraint.charAt(closing) != ')') {
+                closing++;
+            }
+            if (closing == end) {
+                throw illegalConstraint(constraint);
+            }
+            VersionRange range = parseRange(constraint, position, closing + 1);
+            if (range != null) {
+                result.add(range);
+            }
+            position = skipSpaces(constraint, closing + 1, end);
+            if (position == end) {
+                break;
+            }
+            if (constraint.charAt(position) != ',') {
+                throw illegalConstraint(constraint);
+            }
+            position = skipSpaces(constraint, position + 1, end);
+            if (position == end) {
+                throw illegalConstraint(constraint);
+            }
+        }
+        return new VersionConstraint(result.toArray(
+                new VersionRange[result.size()]));
+    }
+
+    private static int skipOperator(String text, int start, int end) {
+        while (start < end && "<>=!".indexOf(text.charAt(start)) >= 0) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int skipSpaces(String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimSpaces(String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private final VersionRange[] ranges;
+
+    /**
+     * Creates a new version constraint.
+     *
+     * @param ranges united version ranges.
+     * @throws NullPointerException if either ranges or any range is null.
+     *
+     * @since v1.1.0
+     */
+    public VersionConstraint(VersionRange... ranges) {
+        if (ranges == null) {
+            throw new NullPointerException("ranges are null");
+        }
+        for (VersionRange range : ranges) {
+            if (range == null) {
+                throw new NullPointerException("range is null");
+            }
+        }
+        this.ranges = merge(ranges.clone());
+    }
+
+    /**
+     * Gets disjoint version ranges in ascending order.
+     *
+     * @return unmodifiable list of ranges.
+     *
+     * @since v1.1.0
+     */
+    public List<VersionRange> getRanges() {
+        return Collections.unmodifiableList(Arrays.asList(ranges));
+    }
+
+    /**
+     * Checks if the constraint matches no versions.
+     *
+     * @return true if the constraint matches no versions.
+     *
+     * @since v1.1.0
+     */
+    public boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        VersionConstraint other = (VersionConstraint) object;
+        return Arrays.equals(ranges, other.ranges);
+    }
+
+    /**
+     * Selects matching versions.
+     * <p>
+     * Candidates are expected to be sorted in ascending order, so they are
+     * matched against the ranges in a single pass.
+     *
+     * @param candidates sorted candidate versions.
+     * @return matching versions in the same order.
+     * @throws NullPointerException if either candidates or any candidate is
+     * null.
+     *
+     * @since v1.1.0
+     */
+    public List<Version> filter(List<? extends Version> candidates) {
+        if (candidates == null) {
+            throw new NullPointerException("candidates are null");
+        }
+        List<Version> result = new ArrayList<Version>();
+        int index = 0;
+        for (Version candidate : candidates) {
+            int location = 1;
+            while (index < ranges.length
+                    && (location = ranges[index].locate(candidate)) > 0) {
+                index++;
+            }
+            if (index == ranges.length) {
+                break;
+            }
+            if (location == 0) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 + Arrays.hashCode(ranges);
+    }
+
+    /**
+     * Creates a new constraint matching versions matched by both this
+     * constraint and specified one.
+     *
+     * @param constraint another version constraint.
+     * @return version constraint.
+     * @throws NullPointerException if constraint is null.
+     *
+     * @since v1.1.0
+     */
+    public VersionConstraint intersect(VersionConstraint constraint) {
+        if (constraint == null) {
+            throw new NullPointerException("constraint is null");
+        }
+        return new VersionConstraint(intersect(ranges, constraint.ranges));
+    }
+
+    /**
+     * Checks if the constraint matches specified version.
+     *
+     * @param version version descriptor.
+     * @return true if the version is matched.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    public boolean matches(Version version) {
+        if (version == null) {
+            throw new NullPointerException("version is null");
+        }
+        int low = 0;
+        int high = ranges.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int location = ranges[middle].locate(version);
+            if (location == 0) {
+                return true;
+            }
+            if (location > 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public StringBuilder print() {
+        return Pojo.printAppendable(this);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        if (ranges.length == 0) {
+            sink.append("[]");
+            return;
+        }
+        for (int i = 0; i < ranges.length; i++) {
+            if (i > 0) {
+                sink.append(',');
+            }
+            ranges[i].printTo(sink);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return print().toString();
+    }
+
+    /**
+     * Creates a new constraint matching versions matched by either this
+     * constraint or specified one.
+     *
+     * @param constraint another version constraint.
+     * @return version constraint.
+     * @throws NullPointerException if constraint is null.
+     *
+     * @since v1.1.0
+     */
+    public VersionConstraint union(VersionConstraint constraint) {
+        if (constraint == null) {
+            throw new NullPointerException("constraint is null");
+        }
+        VersionRange[] united = new VersionRange[ranges.length
+                + constraint.ranges.length];
+        System.arraycopy(ranges, 0, united, 0, ranges.length);
+        System.arraycopy(constraint.ranges, 0, united, ranges.length,
+                constraint.ranges.length);
+        return new VersionConstraint(united);
+    }
+}
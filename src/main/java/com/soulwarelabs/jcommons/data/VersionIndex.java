@@ -0,0 +1,163 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionIndex.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sorted index of versions.
+ * <p>
+ * Keeps distinct versions in {@link Version#compareTo(Version)} order and
+ * answers nearest version queries in logarithmic time. Stored versions are
+ * frozen copies of added ones; iteration is performed in ascending order.
+ *
+ * @see ConcurrentVersionIndex
+ * @see TreeVersionIndex
+ * @see Version
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public interface VersionIndex extends Iterable<Version> {
+
+    /**
+     * Adds a version to the index.
+     *
+     * @param version version descriptor.
+     * @return true if the version was not indexed before.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    boolean add(Version version);
+
+    /**
+     * Adds versions to the index.
+     *
+     * @param versions version descriptors.
+     * @return true if any version was not indexed before.
+     * @throws NullPointerException if either versions or any version is null.
+     *
+     * @since v1.1.0
+     */
+    boolean addAll(Collection<? extends Version> versions);
+
+    /**
+     * Gets the lowest indexed version greater than or equal to specified one.
+     *
+     * @param version version descriptor.
+     * @return indexed version (optional).
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    Version ceiling(Version version);
+
+    /**
+     * Checks if specified version is indexed.
+     *
+     * @param version version descriptor.
+     * @return true if the version is indexed.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    boolean contains(Version version);
+
+    /**
+     * Gets the greatest indexed version less than or equal to specified one.
+     *
+     * @param version version descriptor.
+     * @return indexed version (optional).
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    Version floor(Version version);
+
+    /**
+     * Gets the greatest indexed version.
+     *
+     * @return indexed version (optional).
+     *
+     * @since v1.1.0
+     */
+    Version getLatest();
+
+    /**
+     * Gets the greatest indexed version with specified major number.
+     *
+     * @param major major version number (not negative).
+     * @return indexed version (optional).
+     * @throws IllegalArgumentException if major version number is negative.
+     *
+     * @since v1.1.0
+     */
+    Version getLatest(int major);
+
+    /**
+     * Gets the greatest indexed version, which is not a snapshot.
+     *
+     * @return indexed version (optional).
+     *
+     * @since v1.1.0
+     */
+    Version getLatestRelease();
+
+    /**
+     * Gets a total amount of indexed versions.
+     *
+     * @return total amount of indexed versions.
+     *
+     * @since v1.1.0
+     */
+    int getSize();
+
+    /**
+     * Removes a version from the index.
+     *
+     * @param version version descriptor.
+     * @return true if the version was indexed.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    boolean remove(Version version);
+
+    /**
+     * Selects indexed versions belonging to specified range.
+     *
+     * @param range version range.
+     * @return indexed versions in ascending order.
+     * @throws NullPointerException if range is null.
+     *
+     * @since v1.1.0
+     */
+    List<Version> select(VersionRange range);
+}
@@ -0,0 +1,331 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionKey.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Byte-comparable version key codec.
+ * <p>
+ * Keys compared as unsigned byte sequences are ordered as versions are
+ * ordered by {@link Version#compareTo(Version)}. Every version number is
+ * written as {@link #NUMBER} followed by four big-endian bytes with the
+ * sign bit flipped, then either {@link #NO_LABEL} or {@link #LABEL}, the
+ * case folded label and {@link #TERMINATOR}. The key ends with either
+ * {@link #SNAPSHOT} or {@link #RELEASE}, so a snapshot sorts below its
+ * release and a shorter version sorts below a longer one. If folding
+ * changes any label, original labels follow the end marker, which keeps
+ * decoding lossless without affecting the order.
+ * <p>
+ * Label characters are shifted by one to keep {@link #TERMINATOR} below
+ * any of them; characters from 0x7F are written as three bytes starting
+ * with 0x80.
+ *
+ * @see Version#parseKey(byte[], int, int)
+ * @see Version#toKey()
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+final class VersionKey {
+
+    static final int TERMINATOR = 0x00;
+    static final int SNAPSHOT = 0x00;
+    static final int RELEASE = 0x01;
+    static final int LABEL = 0x01;
+    static final int NO_LABEL = 0x02;
+    static final int NUMBER = 0x02;
+
+    private static final int WIDE_CHAR = 0x80;
+
+    /**
+     * Decodes a version from a byte-comparable key.
+     *
+     * @param key source byte array.
+     * @param offset key offset.
+     * @param length key length.
+     * @return version descriptor.
+     * @throws IllegalArgumentException if key format is illegal.
+     *
+     * @since v1.1.0
+     */
+    static Version decode(byte[] key, int offset, int length) {
+        Reader reader = new Reader(key, offset, offset + length);
+        List<Integer> numbers = new ArrayList<Integer>();
+        List<String> labels = new ArrayList<String>();
+        boolean trailer = false;
+        int marker;
+        while ((marker = reader.next()) == NUMBER) {
+            numbers.add(reader.nextInt() ^ Integer.MIN_VALUE);
+            int labelMarker = reader.next();
+            if (labelMarker == LABEL) {
+                labels.add(reader.nextLabel());
+            } else if (labelMarker == NO_LABEL) {
+                labels.add(null);
+            } else {
+                throw reader.illegalKey();
+            }
+        }
+        if (marker != SNAPSHOT && marker != RELEASE) {
+            throw reader.illegalKey();
+        }
+        if (reader.hasNext()) {
+            trailer = true;
+            for (int i = 0; i < labels.size(); i++) {
+                if (labels.get(i) != null) {
+                    labels.set(i, reader.nextLabel());
+                }
+            }
+            if (reader.hasNext()) {
+                throw reader.illegalKey();
+            }
+        }
+        Version result = new Version();
+        for (int i = 0; i < numbers.size(); i++) {
+            result.append(numbers.get(i), labels.get(i));
+        }
+        if (!trailer && !isFolded(result)) {
+            throw reader.illegalKey();
+        }
+        return result.setSnapshot(marker == SNAPSHOT);
+    }
+
+    /**
+     * Encodes a version into a byte-comparable key.
+     *
+     * @param version version descriptor.
+     * @return byte-comparable key.
+     *
+     * @since v1.1.0
+     */
+    static byte[] encode(Version version) {
+        int length = version.getLength();
+        int size = 1;
+        boolean trailer = false;
+        for (int index = 1; index <= length; index++) {
+            size += 6;
+            String label = version.getNumberLabel(index);
+            if (label != null) {
+                size += getLabelSize(label, true) + 1;
+                trailer |= !isFolded(label);
+            }
+        }
+        if (trailer) {
+            for (int index = 1; index <= length; index++) {
+                String label = version.getNumberLabel(index);
+                if (label != null) {
+                    size += getLabelSize(label, false) + 1;
+                }
+            }
+        }
+        byte[] result = new byte[size];
+        int position = 0;
+        for (int index = 1; index <= length; index++) {
+            int number = version.getNumber(index) ^ Integer.MIN_VALUE;
+            result[position++] = NUMBER;
+            result[position++] = (byte) (number >>> 24);
+            result[position++] = (byte) (number >>> 16);
+            result[position++] = (byte) (number >>> 8);
+            result[position++] = (byte) number;
+            String label = version.getNumberLabel(index);
+            if (label == null) {
+                result[position++] = NO_LABEL;
+            } else {
+                result[position++] = LABEL;
+                position = putLabel(result, position, label, true);
+            }
+        }
+        result[position++] = (byte) (version.isSnapshot() ? SNAPSHOT
+                : RELEASE);
+        if (trailer) {
+            for (int index = 1; index <= length; index++) {
+                String label = version.getNumberLabel(index);
+                if (label != null) {
+                    position = putLabel(result, position, label, false);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static char fold(char c) {
+        // NOTE: the same folding as used by String.compareToIgnoreCase()
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int getLabelSize(String label, boolean folded) {
+        int result = label.length();
+        for (int i = 0; i < label.length(); i++) {
+            char c = folded ? fold(label.charAt(i)) : label.charAt(i);
+            if (c >= WIDE_CHAR - 1) {
+                result += 2;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isFolded(String label) {
+        for (int i = 0; i < label.length(); i++) {
+            if (fold(label.charAt(i)) != label.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFolded(Version version) {
+        for (int index = 1; index <= version.getLength(); index++) {
+            String label = version.getNumberLabel(index);
+            if (label != null && !isFolded(label)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int putLabel(byte[] key, int position, String label,
+            boolean folded) {
+        for (int i = 0; i < label.length(); i++) {
+            char c = folded ? fold(label.charAt(i)) : label.charAt(i);
+            if (c < WIDE_CHAR - 1) {
+                key[position++] = (byte) (c + 1);
+            } else {
+                key[position++] = (byte) WIDE_CHAR;
+                key[position++] = (byte) (c >>> 8);
+                key[position++] = (byte) c;
+            }
+        }
+        key[position++] = TERMINATOR;
+        return position;
+    }
+
+    private VersionKey() {
+
+    }
+
+    /**
+     * Sequential key reader.
+     *
+     * @since v1.1.0
+     */
+    private static class Reader {
+
+        private final int end;
+        private final byte[] key;
+        private int position;
+
+        /**
+         * Creates a new key reader.
+         *
+         * @param key source byte array.
+         * @param start key start index (inclusive).
+         * @param end key end index (exclusive).
+         *
+         * @since v1.1.0
+         */
+        public Reader(byte[] key, int start, int end) {
+            this.end = end;
+            this.key = key;
+            this.position = start;
+        }
+
+        /**
+         * Checks if unread bytes are available.
+         *
+         * @return true if unread bytes are available.
+         *
+         * @since v1.1.0
+         */
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        /**
+         * Creates a new exception describing illegal key format.
+         *
+         * @return illegal key exception.
+         *
+         * @since v1.1.0
+         */
+        public IllegalArgumentException illegalKey() {
+            String message = String.format("illegal key at: %d", position);
+            return new IllegalArgumentException(message);
+        }
+
+        /**
+         * Reads an unsigned byte.
+         *
+         * @return unsigned byte value.
+         * @throws IllegalArgumentException if the key is over.
+         *
+         * @since v1.1.0
+         */
+        public int next() {
+            if (position == end) {
+                throw illegalKey();
+            }
+            return key[position++] & 0xFF;
+        }
+
+        /**
+         * Reads a big-endian integer.
+         *
+         * @return integer value.
+         * @throws IllegalArgumentException if the key is over.
+         *
+         * @since v1.1.0
+         */
+        public int nextInt() {
+            return (next() << 24) | (next() << 16) | (next() << 8) | next();
+        }
+
+        /**
+         * Reads a terminated label.
+         *
+         * @return label.
+         * @throws IllegalArgumentException if label format is illegal.
+         *
+         * @since v1.1.0
+         */
+        public String nextLabel() {
+            StringBuilder result = new StringBuilder();
+            int value;
+            while ((value = next()) != TERMINATOR) {
+                if (value < WIDE_CHAR) {
+                    result.append((char) (value - 1));
+                } else if (value == WIDE_CHAR) {
+                    result.append((char) ((next() << 8) | next()));
+                } else {
+                    throw illegalKey();
+                }
+            }
+            return result.toString();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionRange.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.01, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import com.soulwarelabs.jcommons.AppendablePrintable;
+import com.soulwarelabs.jcommons.Pojo;
+
+/**
+ * Continuous range of versions.
+ * <p>
+ * Either bound may be absent, which makes the range unbounded on that side.
+ * Bounds are kept as frozen copies, so a range never changes after it is
+ * created. Printed in Maven range syntax, e.g. "[1.0,2.0)".
+ *
+ * @see VersionConstraint
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionRange implements AppendablePrintable, Serializable {
+
+    private final Version lower;
+    private final boolean lowerInclusive;
+    private final Version upper;
+    private final boolean upperInclusive;
+
+    /**
+     * Creates a new range containing a single version.
+     *
+     * @param version contained version.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    public VersionRange(Version version) {
+        this(version, true, checkVersion(version), true);
+    }
+
+    /**
+     * Creates a new version range.
+     *
+     * @param lower lower bound (optional).
+     * @param lowerInclusive true if lower bound belongs to the range.
+     * @param upper upper bound (optional).
+     * @param upperInclusive true if upper bound belongs to the range.
+     * @throws IllegalArgumentException if the range contains no versions.
+     *
+     * @since v1.1.0
+     */
+    public VersionRange(Version lower, boolean lowerInclusive, Version upper,
+            boolean upperInclusive) {
+        if (!isValid(lower, lowerInclusive, upper, upperInclusive)) {
+            String message = String.format("range is empty: %s%s,%s%s",
+                    lowerInclusive ? '[' : '(', lower, upper,
+                    upperInclusive ? ']' : ')');
+            throw new IllegalArgumentException(message);
+        }
+        this.lower = Version.toFrozen(lower);
+        this.lowerInclusive = lower != null && lowerInclusive;
+        this.upper = Version.toFrozen(upper);
+        this.upperInclusive = upper != null && upperInclusive;
+    }
+
+    /**
+     * Gets a lower bound.
+     *
+     * @return frozen lower bound (optional).
+     *
+     * @since v1.1.0
+     */
+    public Version getLower() {
+        return lower;
+    }
+
+    /**
+     * Gets lower bound inclusion status.
+     *
+     * @return true if lower bound belongs to the range.
+     *
+     * @since v1.1.0
+     */
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    /**
+     * Gets an upper bound.
+     *
+     * @return frozen upper bound (optional).
+     *
+     * @since v1.1.0
+     */
+    public Version getUpper() {
+        return upper;
+    }
+
+    /**
+     * Gets upper bound inclusion status.
+     *
+     * @return true if upper bound belongs to the range.
+     *
+     * @since v1.1.0
+     */
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    /**
+     * Checks if the range contains specified version.
+     *
+     * @param version version descriptor.
+     * @return true if the version belongs to the range.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    public boolean contains(Version version) {
+        return locate(version) == 0;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object == null) {
+            return false;
+        }
+        if (getClass() != object.getClass()) {
+            return false;
+        }
+        VersionRange other = (VersionRange) object;
+        if (lower == null ? other.lower != null : !lower.equals(other.lower)) {
+            return false;
+        }
+        if (upper == null ? other.upper != null : !upper.equals(other.upper)) {
+            return false;
+        }
+        if (lowerInclusive != other.lowerInclusive) {
+            return false;
+        }
+        return upperInclusive == other.upperInclusive;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 3;
+        result = 59 * result + (lower != null ? lower.hashCode() : 0);
+        result = 59 * result + (lowerInclusive ? 1 : 0);
+        result = 59 * result + (upper != null ? upper.hashCode() : 0);
+        result = 59 * result + (upperInclusive ? 1 : 0);
+        return result;
+    }
+
+    @Override
+    public StringBuilder print() {
+        return Pojo.printAppendable(this);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        sink.append(lowerInclusive ? '[' : '(');
+        if (lower != null) {
+            lower.printTo(sink);
+        }
+        if (lower == null || upper == null || !lower.equals(upper)) {
+            sink.append(',');
+            if (upper != null) {
+                upper.printTo(sink);
+            }
+        }
+        sink.append(upperInclusive ? ']' : ')');
+    }
+
+    @Override
+    public String toString() {
+        return print().toString();
+    }
+
+    /**
+     * Compares lower bounds of two ranges.
+     *
+     * @param first first range.
+     * @param second second range.
+     * @return negative if the first range starts before the second one.
+     *
+     * @since v1.1.0
+     */
+    static int compareLowers(VersionRange first, VersionRange second) {
+        return compareBounds(first.lower, first.lowerInclusive, second.lower,
+                second.lowerInclusive, -1);
+    }
+
+    /**
+     * Compares upper bounds of two ranges.
+     *
+     * @param first first range.
+     * @param second second range.
+     * @return negative if the first range ends before the second one.
+     *
+     * @since v1.1.0
+     */
+    static int compareUppers(VersionRange first, VersionRange second) {
+        return compareBounds(first.upper, first.upperInclusive, second.upper,
+                second.upperInclusive, 1);
+    }
+
+    /**
+     * Creates a new range from specified bounds if it is not empty.
+     *
+     * @param lower range providing a lower bound.
+     * @param upper range providing an upper bound.
+     * @return version range (optional).
+     *
+     * @since v1.1.0
+     */
+    static VersionRange join(VersionRange lower, VersionRange upper) {
+        if (!isValid(lower.lower, lower.lowerInclusive, upper.upper,
+                upper.upperInclusive)) {
+            return null;
+        }
+        return new VersionRange(lower.lower, lower.lowerInclusive,
+                upper.upper, upper.upperInclusive);
+    }
+
+    /**
+     * Checks if the second range starts right after the first one ends or
+     * earlier, so they can be merged into a single range.
+     *
+     * @param first first range.
+     * @param second second range, which does not start before the first one.
+     * @return true if ranges overlap or touch each other.
+     *
+     * @since v1.1.0
+     */
+    static boolean isAdjoining(VersionRange first, VersionRange second) {
+        if (first.upper == null || second.lower == null) {
+            return true;
+        }
+        int delta = second.lower.compareTo(first.upper);
+        return delta < 0 || (delta == 0 && (first.upperInclusive
+                || second.lowerInclusive));
+    }
+
+    /**
+     * Locates a version relatively to the range.
+     *
+     * @param version version descriptor.
+     * @return negative if the version is below the range, positive if the
+     * version is above the range and zero if it belongs to the range.
+     * @throws NullPointerException if version is null.
+     *
+     * @since v1.1.0
+     */
+    int locate(Version version) {
+        if (version == null) {
+            throw new NullPointerException("version is null");
+        }
+        if (lower != null) {
+            int delta = version.compareTo(lower);
+            if (delta < 0 || (delta == 0 && !lowerInclusive)) {
+                return -1;
+            }
+        }
+        if (upper != null) {
+            int delta = version.compareTo(upper);
+            if (delta > 0 || (delta == 0 && !upperInclusive)) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private static Version checkVersion(Version version) {
+        if (version == null) {
+            throw new NullPointerException("version is null");
+        }
+        return version;
+    }
+
+    private static int compareBounds(Version first, boolean firstInclusive,
+            Version second, boolean secondInclusive, int infinity) {
+        if (first == null || second == null) {
+            if (first == second) {
+                return 0;
+            }
+            return first == null ? infinity : -infinity;
+        }
+        int delta = first.compareTo(second);
+        if (delta != 0 || firstInclusive == secondInclusive) {
+            return delta;
+        }
+        return firstInclusive ? infinity : -infinity;
+    }
+
+    private static boolean isValid(Version lower, boolean lowerInclusive,
+            Version upper, boolean upperInclusive) {
+        if (lower == null || upper == null) {
+            return true;
+        }
+        int delta = lower.compareTo(upper);
+        return delta < 0 || (delta == 0 && lowerInclusive && upperInclusive);
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     Versions.java
+ * Folder:   src/main/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Version descriptor utilities.
+ * <p>
+ * Sorting is stable and orders versions exactly as
+ * {@link Version#compareTo(Version)} does. Instead of comparing versions
+ * directly, a 64-bit prefix of each version is extracted once: the major
+ * number, its label presence and the minor number. Versions are radix
+ * sorted by the prefix and only versions sharing a prefix are compared.
+ *
+ * @see Version
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public final class Versions {
+
+    /**
+     * Minimal amount of versions sorted by a single parallel task.
+     *
+     * @since v1.1.0
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private static final int RADIX_THRESHOLD = 64;
+
+    /**
+     * Creates a sorted list of distinct versions.
+     * <p>
+     * Versions equal according to {@link Version#compareTo(Version)} are
+     * reduced to the first one of them.
+     *
+     * @param versions version descriptors.
+     * @return sorted list of distinct versions.
+     * @throws NullPointerException if either versions or any version is null.
+     *
+     * @since v1.1.0
+     */
+    public static List<Version> distinct(
+            Collection<? extends Version> versions) {
+        Version[] sorted = toArray(versions);
+        sort(sorted);
+        List<Version> result = new ArrayList<Version>(sorted.length);
+        for (Version version : sorted) {
+            int size = result.size();
+            if (size == 0 || result.get(size - 1).compareTo(version) != 0) {
+                result.add(version);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts a list of versions in ascending order.
+     *
+     * @param versions version descriptors.
+     * @throws NullPointerException if either versions or any version is null.
+     * @throws UnsupportedOperationException if the list is unmodifiable.
+     *
+     * @since v1.1.0
+     */
+    public static void sort(List<Version> versions) {
+        Version[] sorted = toArray(versions);
+        sort(sorted);
+        setAll(versions, sorted);
+    }
+
+    /**
+     * Sorts a list of versions in ascending order using several threads.
+     * <p>
+     * The list is split into parts of at least {@link #PARALLEL_THRESHOLD}
+     * versions, each part is sorted by a separate task and sorted parts are
+     * merged pairwise by further tasks.
+     *
+     * @param versions version descriptors.
+     * @param executor executor running sorting tasks.
+     * @throws NullPointerException if any argument or any version is null.
+     * @throws UnsupportedOperationException if the list is unmodifiable.
+     *
+     * @since v1.1.0
+     */
+    public static void sort(List<Version> versions, ExecutorService executor) {
+        Version[] sorted = toArray(versions);
+        sort(sorted, executor);
+        setAll(versions, sorted);
+    }
+
+    /**
+     * Sorts an array of versions in ascending order.
+     *
+     * @param versions version descriptors.
+     * @throws NullPointerException if either versions or any version is null.
+     *
+     * @since v1.1.0
+     */
+    public static void sort(Version[] versions) {
+        if (versions == null) {
+            throw new NullPointerException("versions are null");
+        }
+        sort(versions, 0, versions.length);
+    }
+
+    /**
+     * Sorts an array of versions in ascending order using several threads.
+     *
+     * @param versions version descriptors.
+     * @param executor executor running sorting tasks.
+     * @throws NullPointerException if any argument or any version is null.
+     *
+     * @see #sort(List, ExecutorService)
+     *
+     * @since v1.1.0
+     */
+    public static void sort(final Version[] versions,
+            ExecutorService executor) {
+        if (versions == null) {
+            throw new NullPointerException("versions are null");
+        }
+        if (executor == null) {
+            throw new NullPointerException("executor is null");
+        }
+        int parts = Math.min(versions.length / PARALLEL_THRESHOLD,
+                Runtime.getRuntime().availableProcessors());
+        if (parts < 2) {
+            sort(versions);
+            return;
+        }
+        final int[] bounds = new int[parts + 1];
+        for (int i = 0; i <= parts; i++) {
+            bounds[i] = (int) ((long) versions.length * i / parts);
+        }
+        List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+        for (int i = 0; i < parts; i++) {
+            final int start = bounds[i];
+            final int end = bounds[i + 1];
+            tasks.add(new Callable<Object>() {
+
+                @Override
+                public Object call() {
+                    sort(versions, start, end);
+                    return null;
+                }
+            });
+        }
+        invokeAll(executor, tasks);
+        Version[] source = versions;
+        Version[] target = new Version[versions.length];
+        for (int width = 1; width < parts; width *= 2) {
+            tasks.clear();
+            for (int i = 0; i < parts; i += 2 * width) {
+                final Version[] from = source;
+                final Version[] to = target;
+                final int start = bounds[i];
+                final int middle = bounds[Math.min(i + width, parts)];
+                final int end = bounds[Math.min(i + 2 * width, parts)];
+                tasks.add(new Callable<Object>() {
+
+                    @Override
+                    public Object call() {
+                        merge(from, start, middle, end, to);
+                        return null;
+                    }
+                });
+            }
+            invokeAll(executor, tasks);
+            Version[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != versions) {
+            System.arraycopy(source, 0, versions, 0, versions.length);
+        }
+    }
+
+    private static long getPrefix(Version version) {
+        int length = version.getLength();
+        if (length == 0) {
+            return 0;
+        }
+        int major = version.getNumber(Version.MAJOR_INDEX);
+        long result = 1L << 63 | (long) major << 32;
+        if (version.getNumberLabel(Version.MAJOR_INDEX) != null) {
+            return result;
+        }
+        result |= 1L << 31;
+        if (length == 1) {
+            return result;
+        }
+        // NOTE: the highest minor number is clamped, which keeps the order
+        int minor = version.getNumber(Version.MINOR_INDEX);
+        return result | Math.min(minor + 1L, Integer.MAX_VALUE);
+    }
+
+    private static void invokeAll(ExecutorService executor,
+            List<Callable<Object>> tasks) {
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static boolean isPackable(Version version) {
+        int length = Math.min(version.getLength(), Version.MINOR_INDEX);
+        for (int index = 1; index <= length; index++) {
+            if (version.getNumber(index) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void merge(Version[] source, int start, int middle,
+            int end, Version[] target) {
+        int i = start;
+        int j = middle;
+        for (int k = start; k < end; k++) {
+            if (j == end || (i < middle
+                    && source[i].compareTo(source[j]) <= 0)) {
+                target[k] = source[i++];
+            } else {
+                target[k] = source[j++];
+            }
+        }
+    }
+
+    private static void setAll(List<Version> versions, Version[] sorted) {
+        ListIterator<Version> iterator = versions.listIterator();
+        for (Version version : sorted) {
+            iterator.next();
+            iterator.set(version);
+        }
+    }
+
+    private static void sort(Version[] versions, int start, int end) {
+        int size = end - start;
+        for (int i = start; i < end; i++) {
+            if (versions[i] == null) {
+                throw new NullPointerException("version is null");
+            }
+        }
+        if (size < RADIX_THRESHOLD) {
+            Arrays.sort(versions, start, end);
+            return;
+        }
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            Version version = versions[start + i];
+            if (!isPackable(version)) {
+                Arrays.sort(versions, start, end);
+                return;
+            }
+            keys[i] = getPrefix(version);
+        }
+        Version[] values = new Version[size];
+        System.arraycopy(versions, start, values, 0, size);
+        long[] sortedKeys = new long[size];
+        Version[] sortedValues = new Version[size];
+        int[] counts = new int[256];
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[(int) (key >>> shift) & 0xFF]++;
+            }
+            if (counts[(int) (keys[0] >>> shift) & 0xFF] == size) {
+                continue;
+            }
+            for (int i = 0, total = 0; i < 256; i++) {
+                int count = counts[i];
+                counts[i] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                int position = counts[(int) (keys[i] >>> shift) & 0xFF]++;
+                sortedKeys[position] = keys[i];
+                sortedValues[position] = values[i];
+            }
+            long[] swapKeys = keys;
+            keys = sortedKeys;
+            sortedKeys = swapKeys;
+            Version[] swapValues = values;
+            values = sortedValues;
+            sortedValues = swapValues;
+        }
+        for (int i = 0; i < size;) {
+            int j = i + 1;
+            while (j < size && keys[j] == keys[i]) {
+                j++;
+            }
+            if (j - i > 1) {
+                Arrays.sort(values, i, j);
+            }
+            i = j;
+        }
+        System.arraycopy(values, 0, versions, start, size);
+    }
+
+    private static Version[] toArray(Collection<? extends Version> versions) {
+        if (versions == null) {
+            throw new NullPointerException("versions are null");
+        }
+        return versions.toArray(new Version[versions.size()]);
+    }
+
+    private Versions() {
+
+    }
+}
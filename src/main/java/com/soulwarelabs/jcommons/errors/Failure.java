@@ -4,7 +4,7 @@
  *
  * File:     Failure.java
  * Folder:   src/main/java/com/soulwarelabs/jcommons/errors
- * Revision: 1.04, 30 August 2014
+ * Revision: 1.06, 18 October 2026
  * Created:  16 August 2014
  * Authors:  Ilya Gubarev
  *
@@ -25,23 +25,25 @@
  */
 package com.soulwarelabs.jcommons.errors;
 
+import java.io.IOException;
+
+import com.soulwarelabs.jcommons.AppendablePrintable;
 import com.soulwarelabs.jcommons.Pojo;
-import com.soulwarelabs.jcommons.Printable;
 
 /**
  * Failure descriptor.
  * <p>
  * Designed to be logically comparable by the code.
  *
+ * @see AppendablePrintable
  * @see Pojo
- * @see Printable
  *
  * @since v1.1.0
  *
  * @author Ilya Gubarev
- * @version 30 August 2014
+ * @version 18 October 2026
  */
-public class Failure extends Pojo implements Printable {
+public class Failure extends Pojo implements AppendablePrintable {
 
     /**
      * Creates a new copy of failure descriptor.
@@ -196,11 +198,14 @@ public class Failure extends Pojo implements Printable {
 
     @Override
     public StringBuilder print() {
-        StringBuilder result = new StringBuilder();
-        result.append(String.format("%s (%s)", title, code));
+        return Pojo.printAppendable(this);
+    }
+
+    @Override
+    public void printTo(Appendable sink) throws IOException {
+        sink.append(title).append(" (").append(code).append(')');
         if (details != null) {
-            result.append(String.format(" - %s", details));
+            sink.append(" - ").append(details);
         }
-        return result;
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     AsyncHandlerTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Asynchronous input data processor unit test.
+ *
+ * @see AsyncHandler
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class AsyncHandlerTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public AsyncHandlerTest() {
+
+    }
+
+    @Test
+    public void testCall() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AsyncHandler<Integer, Integer> handler = Handlers.async(
+                new Handler<Integer, Integer>() {
+
+                    @Override
+                    public Integer call(Integer data) {
+                        if (data < 0) {
+                            throw new IllegalArgumentException("negative");
+                        }
+                        return data * 2;
+                    }
+                }, executor, 2);
+        List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+        for (int index = 0; index < 100; index++) {
+            results.add(handler.call(index));
+        }
+        for (int index = 0; index < 100; index++) {
+            Assert.assertEquals(index * 2, results.get(index).get().intValue());
+        }
+        try {
+            handler.call(-1).get();
+            Assert.fail("failure is not propagated");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(true,
+                    e.getCause() instanceof IllegalArgumentException);
+        }
+        // NOTE: permits are released after results become available
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        Assert.assertEquals(0, handler.getActiveCalls());
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncHandler<String, String> handler = Handlers.async(
+                    new Handler<String, String>() {
+
+                        @Override
+                        public String call(String data) {
+                            started.countDown();
+                            try {
+                                released.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return data;
+                        }
+                    }, executor, 3);
+            Future<String> running = handler.call("running");
+            started.await();
+            Future<String> first = handler.call("first");
+            Future<String> second = handler.call("second");
+            Assert.assertEquals(3, handler.getActiveCalls());
+            Assert.assertEquals(null, handler.tryCall("rejected"));
+            Assert.assertEquals(true, first.cancel(false));
+            Assert.assertEquals(true, second.cancel(false));
+            Assert.assertEquals(1, handler.getActiveCalls());
+            released.countDown();
+            Assert.assertEquals("running", running.get());
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            Assert.assertEquals(0, handler.getActiveCalls());
+        } finally {
+            released.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancelRunning() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AsyncHandler<String, String> handler = Handlers.async(
+                    new Handler<String, String>() {
+
+                        @Override
+                        public String call(String data) {
+                            started.countDown();
+                            boolean interrupted = false;
+                            while (true) {
+                                try {
+                                    released.await();
+                                    break;
+                                } catch (InterruptedException e) {
+                                    // NOTE: handler ignores interruption
+                                    interrupted = true;
+                                }
+                            }
+                            if (interrupted) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return data;
+                        }
+                    }, executor, 1);
+            Future<String> running = handler.call("running");
+            started.await();
+            Assert.assertEquals(true, running.cancel(true));
+            Assert.assertEquals(true, running.isCancelled());
+            Assert.assertEquals(1, handler.getActiveCalls());
+            Assert.assertEquals(null, handler.tryCall("rejected"));
+            released.countDown();
+            executor.shutdown();
+            Assert.assertEquals(true,
+                    executor.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertEquals(0, handler.getActiveCalls());
+        } finally {
+            released.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testReject() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        AsyncHandler<String, String> handler = Handlers.async(
+                new Handler<String, String>() {
+
+                    @Override
+                    public String call(String data) {
+                        return data;
+                    }
+                }, executor, 1);
+        for (int index = 0; index < 2; index++) {
+            try {
+                handler.call("test");
+                Assert.fail("call is not rejected");
+            } catch (RejectedExecutionException e) {
+                // NOTE: expected exception
+            }
+        }
+        Assert.assertEquals(0, handler.getActiveCalls());
+    }
+}
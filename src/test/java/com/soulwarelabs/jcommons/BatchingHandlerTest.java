@@ -0,0 +1,246 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     BatchingHandlerTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Batching input data processor unit test.
+ *
+ * @see BatchingHandler
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class BatchingHandlerTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public BatchingHandlerTest() {
+
+    }
+
+    @Test
+    public void testContention() throws Exception {
+        Doubling bulk = new Doubling();
+        final Handler<Integer, Integer> handler = Handlers.batching(bulk, 8, 1,
+                TimeUnit.MILLISECONDS);
+        final List<String> errors =
+                Collections.synchronizedList(new ArrayList<String>());
+        Thread[] threads = new Thread[16];
+        for (int index = 0; index < threads.length; index++) {
+            final int offset = index * 1000;
+            threads[index] = new Thread() {
+
+                @Override
+                public void run() {
+                    for (int call = 0; call < 200; call++) {
+                        int data = offset + call;
+                        Integer result = handler.call(data);
+                        if (result != data * 2) {
+                            errors.add(data + " -> " + result);
+                        }
+                    }
+                }
+            };
+            threads[index].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(Collections.emptyList(), errors);
+        int total = 0;
+        for (int size : bulk.getSizes()) {
+            Assert.assertEquals(true, size >= 1 && size <= 8);
+            total += size;
+        }
+        Assert.assertEquals(16 * 200, total);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        final RuntimeException failure = new IllegalArgumentException("bulk");
+        Handler<List<Integer>, List<Integer>> bulk =
+                new Handler<List<Integer>, List<Integer>>() {
+
+            @Override
+            public List<Integer> call(List<Integer> data) {
+                throw failure;
+            }
+        };
+        Object[] results = callConcurrently(Handlers.batching(bulk, 3, 10,
+                TimeUnit.SECONDS), 3);
+        for (Object result : results) {
+            Assert.assertEquals(true, result == failure);
+        }
+        Handler<List<Integer>, List<Integer>> partial =
+                new Handler<List<Integer>, List<Integer>>() {
+
+            @Override
+            public List<Integer> call(List<Integer> data) {
+                return data.subList(1, data.size());
+            }
+        };
+        results = callConcurrently(Handlers.batching(partial, 3, 10,
+                TimeUnit.SECONDS), 3);
+        for (Object result : results) {
+            Assert.assertEquals(true, result instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testCheckedFailure() throws Exception {
+        final IOException failure = new IOException("bulk");
+        Handler<List<Integer>, List<Integer>> bulk =
+                new Handler<List<Integer>, List<Integer>>() {
+
+            @Override
+            public List<Integer> call(List<Integer> data) {
+                BatchingHandlerTest.<RuntimeException>raise(failure);
+                return data;
+            }
+        };
+        Object[] results = callConcurrently(Handlers.batching(bulk, 3, 10,
+                TimeUnit.SECONDS), 3);
+        for (Object result : results) {
+            Assert.assertEquals(true, result instanceof RuntimeException);
+            Assert.assertEquals(true,
+                    ((RuntimeException) result).getCause() == failure);
+        }
+    }
+
+    @Test
+    public void testFull() throws Exception {
+        Doubling bulk = new Doubling();
+        long start = System.nanoTime();
+        Object[] results = callConcurrently(Handlers.batching(bulk, 4, 30,
+                TimeUnit.SECONDS), 4);
+        long elapsed = System.nanoTime() - start;
+        Assert.assertEquals(true, elapsed < TimeUnit.SECONDS.toNanos(10));
+        Assert.assertEquals(Collections.singletonList(4), bulk.getSizes());
+        for (int index = 0; index < results.length; index++) {
+            Assert.assertEquals(index * 2, results[index]);
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        Doubling bulk = new Doubling();
+        BatchingHandler<Integer, Integer> handler = Handlers.batching(bulk,
+                100, 50, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(50, handler.getMaxDelay(TimeUnit.MILLISECONDS));
+        Assert.assertEquals(100, handler.getMaxSize());
+        long start = System.nanoTime();
+        Assert.assertEquals(Integer.valueOf(14), handler.call(7));
+        long elapsed = System.nanoTime() - start;
+        Assert.assertEquals(true, elapsed >= TimeUnit.MILLISECONDS.toNanos(40));
+        Assert.assertEquals(Collections.singletonList(1), bulk.getSizes());
+        Object[] results = callConcurrently(handler, 3);
+        for (int index = 0; index < results.length; index++) {
+            Assert.assertEquals(index * 2, results[index]);
+        }
+        int total = 0;
+        for (int size : bulk.getSizes()) {
+            total += size;
+        }
+        Assert.assertEquals(4, total);
+        try {
+            Handlers.batching(bulk, 0, 1, TimeUnit.SECONDS);
+            Assert.fail("illegal size is accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    private static Object[] callConcurrently(
+            final Handler<Integer, Integer> handler, int count)
+            throws InterruptedException {
+        final Object[] results = new Object[count];
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[count];
+        for (int index = 0; index < count; index++) {
+            final int data = index;
+            threads[index] = new Thread() {
+
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        results[data] = handler.call(data);
+                    } catch (Throwable e) {
+                        results[data] = e;
+                    }
+                }
+            };
+            threads[index].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return results;
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private static <E extends Throwable> void raise(Throwable failure)
+            throws E {
+        throw (E) failure;
+    }
+
+    private static class Doubling
+            implements Handler<List<Integer>, List<Integer>> {
+
+        private final List<Integer> sizes =
+                Collections.synchronizedList(new ArrayList<Integer>());
+
+        @Override
+        public List<Integer> call(List<Integer> data) {
+            sizes.add(data.size());
+            List<Integer> result = new ArrayList<Integer>(data.size());
+            for (Integer item : data) {
+                result.add(item * 2);
+            }
+            return result;
+        }
+
+        public List<Integer> getSizes() {
+            return new ArrayList<Integer>(sizes);
+        }
+    }
+}
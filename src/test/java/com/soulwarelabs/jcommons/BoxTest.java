@@ -4,7 +4,7 @@
  *
  * File:     BoxTest.java
  * Folder:   src/test/java/com/soulwarelabs/jcommons
- * Revision: 1.00, 24 August 2014
+ * Revision: 1.02, 18 October 2026
  * Created:  24 August 2014
  * Authors:  Ilya Gubarev
  *
@@ -25,6 +25,8 @@
  */
 package com.soulwarelabs.jcommons;
 
+import java.util.concurrent.CountDownLatch;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -36,7 +38,7 @@ import org.junit.Test;
  * @since v1.1.0
  *
  * @author Ilya Gubarev
- * @version 24 August 2014
+ * @version 18 October 2026
  */
 public class BoxTest {
 
@@ -49,6 +51,44 @@ public class BoxTest {
 
     }
 
+    @Test
+    public void testAtomic() throws Exception {
+        final AtomicIntBox ints = new AtomicIntBox();
+        final AtomicLongBox longs = new AtomicLongBox(5);
+        final StripedLongBox striped = new StripedLongBox(4);
+        runConcurrently(new Runnable() {
+
+            @Override
+            public void run() {
+                for (int index = 0; index < 100000; index++) {
+                    ints.increment();
+                    longs.add(2);
+                    striped.increment();
+                    striped.add(2);
+                    striped.decrement();
+                }
+            }
+        });
+        Assert.assertEquals(800000, ints.getValue());
+        Assert.assertEquals(1600005, longs.getValue());
+        Assert.assertEquals(1600000, striped.getValue());
+        Assert.assertEquals(new Box<Long>(1600000L).print().toString(),
+                striped.print().toString());
+        striped.reset();
+        Assert.assertEquals(0, striped.getValue());
+        Assert.assertEquals(true, ints.compareAndSet(800000, 1));
+        Assert.assertEquals(false, ints.compareAndSet(800000, 2));
+        Assert.assertEquals(1, ints.getAndSet(3));
+        Assert.assertEquals(new Box<Integer>(3).print().toString(),
+                ints.print().toString());
+        try {
+            new StripedLongBox(0);
+            Assert.fail("illegal stripes are accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
     @Test
     public void testEquals() {
         Box<String> box = new Box<String>();
@@ -60,4 +100,87 @@ public class BoxTest {
         box.setValue("test");
         Assert.assertEquals(true, box.equals(other));
     }
+
+    @Test
+    public void testFreeze() {
+        Box<String> box = new Box<String>("test");
+        int hash = box.hashCode();
+        Assert.assertEquals(false, box.isFrozen());
+        Assert.assertEquals(box, box.freeze());
+        Assert.assertEquals(true, box.isFrozen());
+        Assert.assertEquals(hash, box.hashCode());
+        try {
+            box.setValue("other");
+            Assert.fail("frozen box is modified");
+        } catch (UnsupportedOperationException e) {
+            // NOTE: expected exception
+        }
+        Assert.assertEquals("test", box.getValue());
+    }
+
+    @Test
+    public void testPrimitive() {
+        int[] ints = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int value : ints) {
+            assertMatches(new Box<Integer>(value), new IntBox(value),
+                    new IntBox(value), new IntBox(value + 1));
+        }
+        long[] longs = {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (long value : longs) {
+            assertMatches(new Box<Long>(value), new LongBox(value),
+                    new LongBox(value), new LongBox(value + 1));
+        }
+        double[] doubles = {0.0, -0.0, 1.5, Double.NaN,
+                Double.POSITIVE_INFINITY, Double.MIN_VALUE};
+        for (double value : doubles) {
+            assertMatches(new Box<Double>(value), new DoubleBox(value),
+                    new DoubleBox(value), new DoubleBox(2.0));
+        }
+        boolean[] booleans = {false, true};
+        for (boolean value : booleans) {
+            assertMatches(new Box<Boolean>(value), new BooleanBox(value),
+                    new BooleanBox(value), new BooleanBox(!value));
+        }
+        IntBox counter = new IntBox();
+        Assert.assertEquals(1, counter.increment());
+        Assert.assertEquals(6, counter.add(5));
+        Assert.assertEquals(5, counter.decrement());
+        Assert.assertEquals(false, new IntBox(1).equals(new LongBox(1)));
+    }
+
+    private static void assertMatches(Box<?> box, Printable primitive,
+            Printable equal, Printable other) {
+        Assert.assertEquals(box.hashCode(), primitive.hashCode());
+        Assert.assertEquals(box.print().toString(),
+                primitive.print().toString());
+        Assert.assertEquals(true, primitive.equals(equal));
+        Assert.assertEquals(primitive.hashCode(), equal.hashCode());
+        Assert.assertEquals(false, primitive.equals(other));
+        Assert.assertEquals(false, primitive.equals(null));
+    }
+
+    private static void runConcurrently(final Runnable task)
+            throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int index = 0; index < threads.length; index++) {
+            threads[index] = new Thread() {
+
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    task.run();
+                }
+            };
+            threads[index].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     IntIntPairListTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Packed list of integer key-value pairs unit test.
+ *
+ * @see IntIntPairList
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class IntIntPairListTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public IntIntPairListTest() {
+
+    }
+
+    @Test
+    public void testList() {
+        IntIntPairList list = new IntIntPairList(1);
+        Assert.assertEquals(true, list.isEmpty());
+        list.add(3, -1);
+        list.add(new IntIntPair(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        Assert.assertEquals(2, list.getSize());
+        Assert.assertEquals(new IntIntPair(3, -1), list.get(0));
+        Assert.assertEquals(Integer.MIN_VALUE, list.getKey(1));
+        Assert.assertEquals(Integer.MAX_VALUE, list.getValue(1));
+        list.setValue(0, 7);
+        Assert.assertEquals(7, list.getValue(0));
+        Assert.assertEquals(3, list.getKey(0));
+        Assert.assertEquals(new Pair<Integer, Integer>(3, 7).print()
+                .toString(), list.get(0).print().toString());
+        try {
+            list.get(2);
+            Assert.fail("illegal index is accepted");
+        } catch (IndexOutOfBoundsException e) {
+            // NOTE: expected exception
+        }
+        list.clear();
+        Assert.assertEquals(0, list.getSize());
+    }
+
+    @Test
+    public void testSort() {
+        Random random = new Random(23);
+        int[] sizes = {0, 1, 2, 10, 1000};
+        for (int size : sizes) {
+            IntIntPairList list = new IntIntPairList();
+            int[][] expected = new int[size][];
+            for (int index = 0; index < size; index++) {
+                int key = random.nextInt(50) - 25;
+                if (index % 7 == 0) {
+                    key = index % 2 == 0 ? Integer.MIN_VALUE :
+                            Integer.MAX_VALUE;
+                }
+                int value = random.nextInt(index % 3 == 0 ? 3 : 1 << 30) -
+                        (index % 2 == 0 ? 0 : Integer.MAX_VALUE);
+                list.add(key, value);
+                expected[index] = new int[] {key, value};
+            }
+            Arrays.sort(expected, new Comparator<int[]>() {
+
+                @Override
+                public int compare(int[] first, int[] second) {
+                    for (int index = 0; index < 2; index++) {
+                        if (first[index] != second[index]) {
+                            return first[index] < second[index] ? -1 : 1;
+                        }
+                    }
+                    return 0;
+                }
+            });
+            list.sort();
+            for (int index = 0; index < size; index++) {
+                Assert.assertEquals(expected[index][0], list.getKey(index));
+                Assert.assertEquals(expected[index][1], list.getValue(index));
+            }
+            for (int key = -30; key <= 30; key++) {
+                assertSearch(list, key);
+            }
+            assertSearch(list, Integer.MIN_VALUE);
+            assertSearch(list, Integer.MAX_VALUE);
+        }
+    }
+
+    private static void assertSearch(IntIntPairList list, int key) {
+        int expected = 0;
+        while (expected < list.getSize() && list.getKey(expected) < key) {
+            expected++;
+        }
+        if (expected == list.getSize() || list.getKey(expected) != key) {
+            expected = -expected - 1;
+        }
+        Assert.assertEquals(expected, list.search(key));
+    }
+}
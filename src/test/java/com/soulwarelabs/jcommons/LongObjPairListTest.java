@@ -0,0 +1,132 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     LongObjPairListTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Packed list of long integer key-value pairs unit test.
+ *
+ * @see LongObjPairList
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class LongObjPairListTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public LongObjPairListTest() {
+
+    }
+
+    @Test
+    public void testList() {
+        LongObjPairList<String> list = new LongObjPairList<String>(1);
+        Assert.assertEquals(true, list.isEmpty());
+        list.add(3, "a");
+        list.add(new LongObjPair<String>(Long.MIN_VALUE, null));
+        Assert.assertEquals(2, list.getSize());
+        Assert.assertEquals(new LongObjPair<String>(3, "a"), list.get(0));
+        Assert.assertEquals(Long.MIN_VALUE, list.getKey(1));
+        Assert.assertEquals(null, list.getValue(1));
+        list.setValue(1, "b");
+        Assert.assertEquals("b", list.getValue(1));
+        Assert.assertEquals(new Pair<Long, String>(3L, "a").print()
+                .toString(), list.get(0).print().toString());
+        try {
+            list.getKey(-1);
+            Assert.fail("illegal index is accepted");
+        } catch (IndexOutOfBoundsException e) {
+            // NOTE: expected exception
+        }
+        list.clear();
+        Assert.assertEquals(true, list.isEmpty());
+    }
+
+    @Test
+    public void testSort() {
+        Random random = new Random(32);
+        int[] sizes = {0, 1, 2, 3, 10, 1000};
+        for (int size : sizes) {
+            LongObjPairList<Integer> list = new LongObjPairList<Integer>();
+            List<LongObjPair<Integer>> expected =
+                    new ArrayList<LongObjPair<Integer>>();
+            for (int index = 0; index < size; index++) {
+                long key = random.nextInt(40) - 20;
+                if (index % 5 == 0) {
+                    key = index % 2 == 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+                }
+                list.add(key, index);
+                expected.add(new LongObjPair<Integer>(key, index));
+            }
+            // NOTE: both sorts are stable, so values show original order
+            Collections.sort(expected, new Comparator<LongObjPair<Integer>>() {
+
+                @Override
+                public int compare(LongObjPair<Integer> first,
+                        LongObjPair<Integer> second) {
+                    if (first.getKey() == second.getKey()) {
+                        return 0;
+                    }
+                    return first.getKey() < second.getKey() ? -1 : 1;
+                }
+            });
+            list.sort();
+            for (int index = 0; index < size; index++) {
+                Assert.assertEquals(expected.get(index), list.get(index));
+            }
+            for (long key = -25; key <= 25; key++) {
+                assertSearch(list, key);
+            }
+            assertSearch(list, Long.MIN_VALUE);
+            assertSearch(list, Long.MAX_VALUE);
+        }
+    }
+
+    private static void assertSearch(LongObjPairList<?> list, long key) {
+        int expected = 0;
+        while (expected < list.getSize() && list.getKey(expected) < key) {
+            expected++;
+        }
+        if (expected == list.getSize() || list.getKey(expected) != key) {
+            expected = -expected - 1;
+        }
+        Assert.assertEquals(expected, list.search(key));
+    }
+}
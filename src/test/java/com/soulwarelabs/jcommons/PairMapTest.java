@@ -0,0 +1,91 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PairMapTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 17 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Flat key-value pair map unit test.
+ *
+ * @see IntPairMap
+ * @see PairMap
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 17 October 2026
+ */
+public class PairMapTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PairMapTest() {
+
+    }
+
+    @Test
+    public void testIntPairMap() {
+        IntPairMap<String> pairs = new IntPairMap<String>();
+        Map<Integer, String> expected = new HashMap<Integer, String>();
+        Random random = new Random(17);
+        for (int index = 0; index < 10000; index++) {
+            int key = random.nextInt(512) - 64;
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(key), pairs.remove(key));
+            } else {
+                String value = String.valueOf(index);
+                Assert.assertEquals(expected.put(key, value),
+                        pairs.put(key, value));
+            }
+        }
+        Assert.assertEquals(expected.size(), pairs.getSize());
+        Assert.assertEquals(expected, pairs.asMap());
+        Assert.assertEquals(expected.get(0), pairs.get(0));
+    }
+
+    @Test
+    public void testPairMap() {
+        PairMap<String, Integer> pairs = new PairMap<String, Integer>();
+        Assert.assertEquals(null, pairs.put(new Pair<String, Integer>("a", 1)));
+        Assert.assertEquals(null, pairs.put(null, 2));
+        Assert.assertEquals(Integer.valueOf(1), pairs.put("a", 3));
+        Assert.assertEquals(2, pairs.getSize());
+        Assert.assertEquals(new Pair<String, Integer>("a"), pairs.getPair("a"));
+        Assert.assertEquals(Integer.valueOf(3), pairs.getPair("a").getValue());
+        Assert.assertEquals(Integer.valueOf(2), pairs.remove(null));
+        Assert.assertEquals(false, pairs.containsKey(null));
+        Assert.assertEquals(pairs, new PairMap<String, Integer>(
+                pairs.toPairs()));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PairTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Key-value pair unit test.
+ *
+ * @see Pair
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PairTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PairTest() {
+
+    }
+
+    @Test
+    public void testPrint() {
+        Map<String, Object> nested = new HashMap<String, Object>();
+        nested.put("b", 2);
+        nested.put("a", "q\"");
+        Object[][] entries = {
+            {"key", "value"},
+            {null, null},
+            {1, 2.5},
+            {"nan", Double.NaN},
+            {Arrays.asList(1, 2), nested},
+            {"pair", new Pair<String, Integer>("inner", 1)},
+            {"text", "line\nbreak"}
+        };
+        List<PrintOptions> variants = createOptions();
+        for (Object[] entry : entries) {
+            Pair<Object, Object> pair = new Pair<Object, Object>(entry[0],
+                    entry[1]);
+            Map<Object, Object> map = new HashMap<Object, Object>();
+            map.put(entry[0], entry[1]);
+            Assert.assertEquals(Pojo.print(map).toString(),
+                    pair.print().toString());
+            Assert.assertEquals(map, pair.toMap());
+            for (PrintOptions options : variants) {
+                String expected = Pojo.print(Arrays.asList(
+                        new Box<Object>(map)), options).toString();
+                Assert.assertEquals(expected,
+                        Pojo.print(Arrays.asList(pair), options).toString());
+            }
+        }
+    }
+
+    private static List<PrintOptions> createOptions() {
+        PrintOptions json = new PrintOptions();
+        json.setJson(true);
+        PrintOptions sorted = new PrintOptions();
+        sorted.setSorted(true);
+        PrintOptions limited = new PrintOptions();
+        limited.setMaxDepth(2);
+        limited.setMaxElements(1);
+        PrintOptions truncated = new PrintOptions();
+        truncated.setMaxLength(8);
+        return Arrays.asList(new PrintOptions(), json, sorted, limited,
+                truncated);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoMetadataTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.soulwarelabs.jcommons.namings.HiddenField;
+import com.soulwarelabs.jcommons.namings.SecretField;
+
+/**
+ * Data structure printable fields metadata unit test.
+ *
+ * @see PojoMetadata
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PojoMetadataTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PojoMetadataTest() {
+
+    }
+
+    @Test
+    public void testFields() {
+        PojoMetadata metadata = PojoMetadata.get(Sample.class);
+        String[] names = {"shadow", "name", "password", "base"};
+        Assert.assertEquals(names.length, metadata.getSize());
+        for (int index = 0; index < names.length; index++) {
+            Assert.assertEquals(names[index], metadata.getName(index));
+        }
+        Sample sample = new Sample();
+        Assert.assertEquals("base", metadata.getValue(sample, 0));
+        Assert.assertEquals("sample", metadata.getValue(sample, 1));
+        Assert.assertEquals("*", metadata.getValue(sample, 2));
+        Assert.assertEquals(1, metadata.getValue(sample, 3));
+        int[] sorted = {3, 1, 2, 0};
+        for (int position = 0; position < sorted.length; position++) {
+            Assert.assertEquals(sorted[position],
+                    metadata.getSortedIndex(position));
+        }
+    }
+
+    @Test
+    public void testGet() {
+        PojoMetadata metadata = PojoMetadata.get(Sample.class);
+        Assert.assertEquals(true, metadata == PojoMetadata.get(Sample.class));
+        Assert.assertEquals(false, metadata == PojoMetadata.get(Base.class));
+        Assert.assertEquals(2, PojoMetadata.get(Base.class).getSize());
+    }
+
+    @Test
+    public void testPrint() {
+        Sample sample = new Sample();
+        String expected = "{\"shadow\": \"base\", \"name\": \"sample\", " +
+                "\"password\": \"*\", \"base\": \"1\"}";
+        Assert.assertEquals(expected, Pojo.print(sample).toString());
+        sample.name = "changed";
+        Assert.assertEquals(true,
+                sample.toString().contains("\"name\": \"changed\""));
+    }
+
+    @Test
+    public void testUnload() throws Exception {
+        WeakReference<Class<?>> type = printIsolated();
+        for (int attempt = 0; attempt < 50 && type.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(null, type.get());
+    }
+
+    private static WeakReference<Class<?>> printIsolated() throws Exception {
+        Class<?> type = new IsolatingLoader().loadClass(
+                Sample.class.getName());
+        Assert.assertEquals(false, type == Sample.class);
+        Constructor<?> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        Pojo sample = (Pojo) constructor.newInstance();
+        Assert.assertEquals(Pojo.print(new Sample()).toString(),
+                Pojo.print(sample).toString());
+        return new WeakReference<Class<?>>(type);
+    }
+
+    private static class Base extends Pojo {
+
+        protected int base = 1;
+        public String shadow = "base";
+
+        @Override
+        public <T> T copy() {
+            return null;
+        }
+    }
+
+    private static class Sample extends Base {
+
+        public String shadow = "sample";
+        public String name = "sample";
+        @HiddenField
+        public String hidden = "hidden";
+        @SecretField
+        public String password = "secret";
+    }
+
+    private static class IsolatingLoader extends ClassLoader {
+
+        public IsolatingLoader() {
+            super(PojoMetadataTest.class.getClassLoader());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name,
+                boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PojoMetadataTest.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            Class<?> result = findLoadedClass(name);
+            if (result == null) {
+                byte[] code = read(name.replace('.', '/') + ".class");
+                result = defineClass(name, code, 0, code.length);
+            }
+            return result;
+        }
+
+        private byte[] read(String resource) throws ClassNotFoundException {
+            InputStream in = getParent().getResourceAsStream(resource);
+            if (in == null) {
+                throw new ClassNotFoundException(resource);
+            }
+            try {
+                try {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    byte[] buffer = new byte[4096];
+                    int length;
+                    while ((length = in.read(buffer)) >= 0) {
+                        out.write(buffer, 0, length);
+                    }
+                    return out.toByteArray();
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                throw new ClassNotFoundException(resource, e);
+            }
+        }
+    }
+}
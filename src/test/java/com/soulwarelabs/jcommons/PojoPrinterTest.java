@@ -0,0 +1,362 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoPrinterTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.03, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.soulwarelabs.jcommons.errors.Failure;
+
+/**
+ * Data structure printer unit test.
+ *
+ * @see PojoPrinter
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PojoPrinterTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PojoPrinterTest() {
+
+    }
+
+    @Test
+    public void testCycle() {
+        List<Object> list = new ArrayList<Object>();
+        list.add("a");
+        list.add(list);
+        Assert.assertEquals("[\"a\", \"<cycle>\"]",
+                Pojo.print(list).toString());
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("self", map);
+        Assert.assertEquals("{\"self\": \"<cycle>\"}",
+                Pojo.print(map).toString());
+        Node node = new Node();
+        node.next = node;
+        Assert.assertEquals("{\"next\": \"<cycle>\"}",
+                Pojo.print(node).toString());
+        // NOTE: shared references are not cycles
+        List<Integer> shared = Arrays.asList(1);
+        Assert.assertEquals("[[\"1\"], [\"1\"]]",
+                Pojo.print(Arrays.asList(shared, shared)).toString());
+    }
+
+    @Test
+    public void testJson() {
+        PrintOptions options = new PrintOptions();
+        options.setJson(true);
+        Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("text", "q\"b\\s/\b\f\n\r\t\u0001\u001f\u00e9");
+        map.put("numbers", Arrays.asList(1, -2L, 1.5, 0.25f));
+        map.put("special", Arrays.asList(Double.NaN, Float.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY));
+        map.put("flags", Arrays.asList(true, false, null));
+        map.put(Arrays.asList("k\"ey"), new Point());
+        Failure failure = new Failure();
+        failure.setCode("E\"1");
+        failure.setTitle("line\nbreak");
+        map.put("failure", failure);
+        String expected = "{\"text\": \"q\\\"b\\\\s/\\b\\f\\n\\r\\t" +
+                "\\u0001\\u001f\u00e9\", \"numbers\": [1, -2, 1.5, 0.25], " +
+                "\"special\": [\"NaN\", \"Infinity\", \"-Infinity\"], " +
+                "\"flags\": [true, false, null], " +
+                "\"[\\\"k\\\\\\\"ey\\\"]\": {\"y\": 2, \"x\": 1}, " +
+                "\"failure\": \"line\\nbreak (E\\\"1)\"}";
+        String printed = Pojo.print(map, options).toString();
+        Assert.assertEquals(expected, printed);
+        Assert.assertEquals(printed.length(), parseJson(printed, 0));
+        options.setSorted(true);
+        printed = Pojo.print(map, options).toString();
+        Assert.assertEquals(printed.length(), parseJson(printed, 0));
+        Assert.assertEquals(true, printed.startsWith("{\"[\\\"k"));
+    }
+
+    @Test
+    public void testMap() {
+        Map<String, Integer> entries = new LinkedHashMap<String, Integer>();
+        entries.put("b", 2);
+        entries.put("a", 1);
+        final Set<Map.Entry<String, Integer>> view = entries.entrySet();
+        Map<String, Integer> map = new AbstractMap<String, Integer>() {
+
+            @Override
+            public Set<Map.Entry<String, Integer>> entrySet() {
+                return view;
+            }
+
+            @Override
+            public Integer get(Object key) {
+                throw new UnsupportedOperationException("lookup is slow");
+            }
+        };
+        Assert.assertEquals("{\"b\": \"2\", \"a\": \"1\"}",
+                Pojo.print(map).toString());
+        Map<Object, Object> keys = new LinkedHashMap<Object, Object>();
+        keys.put(Arrays.asList(1), null);
+        Assert.assertEquals("{\"[\"1\"]\": null}", Pojo.print(keys).toString());
+    }
+
+    @Test
+    public void testMaxDepth() {
+        PrintOptions options = new PrintOptions();
+        options.setMaxDepth(2);
+        Object nested = Arrays.asList(Arrays.asList(Arrays.asList("x")), "y");
+        Assert.assertEquals("[[\"...\"], \"y\"]",
+                Pojo.print(nested, options).toString());
+        Node node = new Node();
+        node.next = new Node();
+        Assert.assertEquals("{\"next\": {\"next\": null}}",
+                Pojo.print(node, options).toString());
+        ((Node) node.next).next = new Node();
+        Assert.assertEquals("{\"next\": {\"next\": \"...\"}}",
+                Pojo.print(node, options).toString());
+        try {
+            options.setMaxDepth(0);
+            Assert.fail("illegal depth is accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testMaxElements() {
+        PrintOptions options = new PrintOptions();
+        options.setMaxElements(2);
+        Assert.assertEquals("[\"1\", \"2\", \"...\"]",
+                Pojo.print(Arrays.asList(1, 2, 3), options).toString());
+        Assert.assertEquals("[\"1\", \"2\"]",
+                Pojo.print(Arrays.asList(1, 2), options).toString());
+        Map<String, Integer> map = new LinkedHashMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        Assert.assertEquals("{\"a\": \"1\", \"b\": \"2\", \"...\": \"...\"}",
+                Pojo.print(map, options).toString());
+    }
+
+    @Test
+    public void testMaxLength() {
+        PrintOptions options = new PrintOptions();
+        options.setMaxLength(5);
+        Assert.assertEquals("[\"abc...",
+                Pojo.print(Arrays.asList("abcdef"), options).toString());
+        Assert.assertEquals("[\"a\"]",
+                Pojo.print(Arrays.asList("a"), options).toString());
+        List<Object> list = new ArrayList<Object>();
+        list.add(list);
+        options.setMaxLength(100);
+        Assert.assertEquals("[\"<cycle>\"]",
+                Pojo.print(list, options).toString());
+        Node node = new Node();
+        node.next = node;
+        options.setMaxLength(4);
+        Assert.assertEquals("{\"ne...", Pojo.print(node, options).toString());
+        // NOTE: truncation is not an I/O failure seen by printable objects
+        AppendablePrintable careless = new AppendablePrintable() {
+
+            @Override
+            public StringBuilder print() {
+                return new StringBuilder("abcdefgh");
+            }
+
+            @Override
+            public void printTo(Appendable sink) {
+                try {
+                    sink.append("abcdefgh");
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        options.setMaxLength(5);
+        Assert.assertEquals("[\"abc...",
+                Pojo.print(Arrays.asList(careless), options).toString());
+    }
+
+    @Test
+    public void testNested() {
+        final Map<String, Object> root = new LinkedHashMap<String, Object>();
+        final PrintOptions shallow = new PrintOptions();
+        shallow.setMaxDepth(1);
+        root.put("items", Arrays.asList(new AppendablePrintable() {
+
+            @Override
+            public StringBuilder print() {
+                return Pojo.print(root, shallow);
+            }
+
+            @Override
+            public void printTo(Appendable sink) throws IOException {
+                Pojo.print(root, sink, shallow);
+            }
+        }));
+        root.put("inherited", new AppendablePrintable() {
+
+            @Override
+            public StringBuilder print() {
+                return Pojo.print(root);
+            }
+
+            @Override
+            public void printTo(Appendable sink) throws IOException {
+                Pojo.print(root, sink, null);
+            }
+        });
+        // NOTE: a nested printing with own options has its own path
+        Assert.assertEquals("{\"items\": [\"{\"items\": \"...\", " +
+                "\"inherited\": \"\"<cycle>\"\"}\"], \"inherited\": " +
+                "\"\"<cycle>\"\"}", Pojo.print(root).toString());
+    }
+
+    @Test
+    public void testSorted() {
+        PrintOptions options = new PrintOptions();
+        options.setSorted(true);
+        Map<Object, Integer> map = new HashMap<Object, Integer>();
+        for (int index = 20; index > 0; index--) {
+            map.put("k" + (char) ('a' + index), index);
+        }
+        StringBuilder expected = new StringBuilder("{");
+        for (int index = 1; index <= 20; index++) {
+            if (index > 1) {
+                expected.append(", ");
+            }
+            expected.append("\"k").append((char) ('a' + index));
+            expected.append("\": \"").append(index).append('"');
+        }
+        expected.append('}');
+        Assert.assertEquals(expected.toString(),
+                Pojo.print(map, options).toString());
+        Map<Object, Integer> mixed = new LinkedHashMap<Object, Integer>();
+        mixed.put(2, 2);
+        mixed.put("10", 10);
+        mixed.put(Arrays.asList(1), 1);
+        Assert.assertEquals("{\"10\": \"10\", \"2\": \"2\", " +
+                "\"[\"1\"]\": \"1\"}", Pojo.print(mixed, options).toString());
+        Assert.assertEquals("{\"x\": \"1\", \"y\": \"2\"}",
+                Pojo.print(new Point(), options).toString());
+        Assert.assertEquals("{\"y\": \"2\", \"x\": \"1\"}",
+                Pojo.print(new Point()).toString());
+        options.setMaxElements(2);
+        Assert.assertEquals("{\"10\": \"10\", \"2\": \"2\", " +
+                "\"...\": \"...\"}", Pojo.print(mixed, options).toString());
+    }
+
+    private static int parseJson(String text, int index) {
+        index = skipSpaces(text, index);
+        char c = text.charAt(index);
+        if (c == '{' || c == '[') {
+            char end = c == '{' ? '}' : ']';
+            index = skipSpaces(text, index + 1);
+            if (text.charAt(index) == end) {
+                return index + 1;
+            }
+            while (true) {
+                if (c == '{') {
+                    index = skipSpaces(text, index);
+                    Assert.assertEquals('"', text.charAt(index));
+                    index = skipSpaces(text, parseJson(text, index));
+                    Assert.assertEquals(':', text.charAt(index++));
+                }
+                index = skipSpaces(text, parseJson(text, index));
+                if (text.charAt(index) == end) {
+                    return index + 1;
+                }
+                Assert.assertEquals(',', text.charAt(index++));
+            }
+        }
+        if (c == '"') {
+            for (index++; text.charAt(index) != '"'; index++) {
+                Assert.assertEquals(true, text.charAt(index) >= ' ');
+                if (text.charAt(index) == '\\') {
+                    char escaped = text.charAt(++index);
+                    Assert.assertEquals(true,
+                            "\"\\/bfnrtu".indexOf(escaped) >= 0);
+                }
+            }
+            return index + 1;
+        }
+        String[] literals = {"true", "false", "null"};
+        for (String literal : literals) {
+            if (text.startsWith(literal, index)) {
+                return index + literal.length();
+            }
+        }
+        int start = index;
+        while (index < text.length() &&
+                "+-.0123456789eE".indexOf(text.charAt(index)) >= 0) {
+            index++;
+        }
+        Double.parseDouble(text.substring(start, index));
+        return index;
+    }
+
+    private static int skipSpaces(String text, int index) {
+        while (index < text.length() && text.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private static class Node extends Pojo {
+
+        public Object next;
+
+        @Override
+        public <T> T copy() {
+            return null;
+        }
+    }
+
+    private static class Point extends Pojo {
+
+        public int y = 2;
+        public int x = 1;
+
+        @Override
+        public <T> T copy() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PojoTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.soulwarelabs.jcommons.data.Version;
+import com.soulwarelabs.jcommons.errors.Failure;
+
+/**
+ * Data structure unit test.
+ *
+ * @see Pojo
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PojoTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PojoTest() {
+
+    }
+
+    @Test
+    public void testPrintNull() throws IOException {
+        Assert.assertEquals("null", Pojo.print(null).toString());
+        try {
+            Pojo.print("test", (Appendable) null);
+            Assert.fail("null sink is accepted");
+        } catch (NullPointerException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testPrintTo() throws IOException {
+        Failure failure = new Failure();
+        failure.setCode("E1");
+        failure.setTitle("title");
+        List<Object> items = new ArrayList<Object>();
+        items.add(new Box<String>("box"));
+        items.add(new Pair<String, Integer>("key", 1));
+        items.add(failure);
+        items.add(new Version(1, 2).setSnapshot(true));
+        items.add(Arrays.asList(new Streamed("a"), new Streamed("b")));
+        StringBuilder sink = new StringBuilder("prefix:");
+        Assert.assertEquals(true, sink == Pojo.print(items, sink));
+        // NOTE: printable objects are quoted regardless of their contents
+        String expected = "[\"\"box\"\", \"{\"key\": \"1\"}\", " +
+                "\"title (E1)\", \"1.2-SNAPSHOT\", [\"a\", \"b\"]]";
+        Assert.assertEquals("prefix:" + expected, sink.toString());
+        Assert.assertEquals(expected, Pojo.print(items).toString());
+        StringBuilder direct = new StringBuilder();
+        failure.printTo(direct);
+        Assert.assertEquals(failure.print().toString(), direct.toString());
+    }
+
+    private static class Streamed implements AppendablePrintable {
+
+        private final String text;
+
+        public Streamed(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public StringBuilder print() {
+            throw new UnsupportedOperationException("text is not streamed");
+        }
+
+        @Override
+        public void printTo(Appendable sink) throws IOException {
+            sink.append(text);
+        }
+    }
+}
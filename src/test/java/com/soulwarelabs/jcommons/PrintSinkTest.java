@@ -0,0 +1,143 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     PrintSinkTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Bounded streaming print sink unit test.
+ *
+ * @see PrintSink
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class PrintSinkTest {
+
+    private static final String TEXT = "a\u00e9\ud83d\ude00b\u4e2d" +
+            "\ud83d\ude01\ud83d\ude02";
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public PrintSinkTest() {
+
+    }
+
+    @Test
+    public void testChannel() throws IOException {
+        for (int capacity = 4; capacity < 12; capacity++) {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            PrintSink sink = new PrintSink(Channels.newChannel(stream),
+                    ByteBuffer.allocateDirect(capacity));
+            for (int index = 0; index < 100; index++) {
+                sink.append(TEXT);
+            }
+            sink.flush();
+            Assert.assertEquals(repeat(TEXT, 100), stream.toString("UTF-8"));
+        }
+        try {
+            new PrintSink(Channels.newChannel(new ByteArrayOutputStream()),
+                    ByteBuffer.allocate(3));
+            Assert.fail("small buffer is accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testFinish() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        PrintSink sink = new PrintSink(stream, 4);
+        sink.append("ab\ud83d");
+        sink.flush();
+        Assert.assertEquals("ab", stream.toString("UTF-8"));
+        sink.finish();
+        Assert.assertEquals("ab?", stream.toString("UTF-8"));
+        sink.append(TEXT);
+        sink.finish();
+        Assert.assertEquals("ab?" + TEXT, stream.toString("UTF-8"));
+        StringWriter writer = new StringWriter();
+        sink = new PrintSink(writer, 4);
+        sink.append("ab\ud83d");
+        sink.finish();
+        Assert.assertEquals("ab\ud83d", writer.toString());
+    }
+
+    @Test
+    public void testStream() throws IOException {
+        for (int capacity = 2; capacity < 8; capacity++) {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            PrintSink sink = new PrintSink(stream, capacity);
+            for (int index = 0; index < TEXT.length(); index++) {
+                sink.append(TEXT.charAt(index));
+                // NOTE: flushing between surrogates must not split pairs
+                sink.flush();
+            }
+            sink.append(new StringBuilder(TEXT), 1, TEXT.length());
+            sink.flush();
+            Assert.assertEquals(TEXT + TEXT.substring(1),
+                    stream.toString("UTF-8"));
+        }
+    }
+
+    @Test
+    public void testWriter() throws IOException {
+        StringWriter writer = new StringWriter();
+        PrintSink sink = new PrintSink(writer, 3);
+        Pojo.print(Arrays.asList(TEXT, TEXT), sink);
+        sink.append(null);
+        sink.flush();
+        String expected = "[\"" + TEXT + "\", \"" + TEXT + "\"]null";
+        Assert.assertEquals(expected, writer.toString());
+        try {
+            new PrintSink(writer, 1);
+            Assert.fail("small capacity is accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    private static String repeat(String text, int count) {
+        StringBuilder result = new StringBuilder();
+        for (int index = 0; index < count; index++) {
+            result.append(text);
+        }
+        return result.toString();
+    }
+}
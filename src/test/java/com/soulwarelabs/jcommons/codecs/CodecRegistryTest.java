@@ -0,0 +1,271 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     CodecRegistryTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/codecs
+ * Revision: 1.01, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.codecs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.soulwarelabs.jcommons.Box;
+import com.soulwarelabs.jcommons.Pair;
+import com.soulwarelabs.jcommons.data.Credentials;
+import com.soulwarelabs.jcommons.data.Version;
+import com.soulwarelabs.jcommons.errors.Failure;
+
+/**
+ * Binary codec registry unit test.
+ *
+ * @see BinaryInput
+ * @see BinaryOutput
+ * @see CodecRegistry
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class CodecRegistryTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public CodecRegistryTest() {
+
+    }
+
+    @Test
+    public void testCorrupt() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        // NOTE: unknown tag, unknown schema, former serialization tag
+        assertCorrupt(registry, 99);
+        assertCorrupt(registry, 10, 15);
+        assertCorrupt(registry, 11, 4, 0xAC, 0xED, 0x00, 0x05);
+        // NOTE: huge sizes should fail on missing data, not allocate
+        assertCorrupt(registry, 7, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0);
+        assertCorrupt(registry, 8, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0);
+        assertCorrupt(registry, 9, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0);
+        assertCorrupt(registry, 6, 1, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0x61);
+        // NOTE: negative sizes and malformed headers
+        assertCorrupt(registry, 7, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+        assertCorrupt(registry, 6, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+        assertCorrupt(registry, 6, 5);
+        assertCorrupt(registry, 10, 3, 1);
+        assertCorrupt(registry, 3, 0xFF, 0xFF, 0xFF, 0xFF, 0xFF, 0x01);
+        // NOTE: version with a negative number
+        assertCorrupt(registry, 10, 3, 2, 1, 0, 0, 0);
+    }
+
+    @Test
+    public void testDepth() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        List<Object> nested = null;
+        for (int depth = 1; depth < BinaryInput.MAX_DEPTH; depth++) {
+            nested = Collections.<Object>singletonList(nested);
+        }
+        Assert.assertEquals(nested, roundTrip(registry, nested));
+        // NOTE: lists nested far deeper than the stack allows
+        int[] bytes = new int[200001];
+        for (int index = 0; index < bytes.length - 1; index += 2) {
+            bytes[index] = 7;
+            bytes[index + 1] = 1;
+        }
+        assertCorrupt(registry, bytes);
+    }
+
+    @Test
+    public void testFrozen() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        Box<String> box = new Box<String>("test");
+        Pair<String, Integer> pair = new Pair<String, Integer>("key", 1);
+        Version version = Version.parse("1.2-beta-SNAPSHOT");
+        Assert.assertEquals(false, roundTrip(registry, box).isFrozen());
+        Assert.assertEquals(false, roundTrip(registry, pair).isFrozen());
+        Assert.assertEquals(false, roundTrip(registry, version).isFrozen());
+        Assert.assertEquals(true, roundTrip(registry, box.freeze()).isFrozen());
+        Assert.assertEquals(true,
+                roundTrip(registry, pair.freeze()).isFrozen());
+        Assert.assertEquals(true,
+                roundTrip(registry, version.freeze()).isFrozen());
+    }
+
+    @Test
+    public void testRegister() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        Codec<Date> codec = new Codec<Date>() {
+
+            @Override
+            public Date read(BinaryInput input) throws IOException {
+                return new Date(input.readLong());
+            }
+
+            @Override
+            public void write(BinaryOutput output, Date date)
+                    throws IOException {
+                output.writeLong(date.getTime());
+            }
+        };
+        try {
+            registry.encode(new Date(0));
+            Assert.fail("unregistered type is encoded");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+        try {
+            registry.register(Date.class, CodecRegistry.FIRST_CUSTOM_ID - 1,
+                    codec);
+            Assert.fail("reserved schema is registered");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+        registry.register(Date.class, CodecRegistry.FIRST_CUSTOM_ID, codec);
+        try {
+            registry.register(Date.class, CodecRegistry.FIRST_CUSTOM_ID + 1,
+                    codec);
+            Assert.fail("type is registered twice");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+        Date date = new Date(1234567890123L);
+        Assert.assertEquals(date, roundTrip(registry, date));
+        try {
+            new CodecRegistry().decode(registry.encode(date));
+            Assert.fail("unknown schema is decoded");
+        } catch (IOException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        Object[] values = {null, false, true, 0, -1, Integer.MIN_VALUE,
+                Integer.MAX_VALUE, 0L, Long.MIN_VALUE, Long.MAX_VALUE, 1.5,
+                -0.0, Double.NaN, "", "text", "\u0000\u00e9\u20ac\uffff"};
+        for (Object value : values) {
+            Assert.assertEquals(value, roundTrip(registry, value));
+        }
+        List<Object> list = new ArrayList<Object>(Arrays.asList(values));
+        Assert.assertEquals(list, roundTrip(registry, list));
+        Set<Object> set = new LinkedHashSet<Object>(list);
+        Assert.assertEquals(set, roundTrip(registry, set));
+        Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("list", list);
+        map.put(1, set);
+        map.put(null, "null");
+        Assert.assertEquals(map, roundTrip(registry, map));
+        Box<Object> box = new Box<Object>(list);
+        Assert.assertEquals(box, roundTrip(registry, box));
+        Pair<Object, Object> pair = new Pair<Object, Object>("key", map);
+        Pair<Object, Object> pairCopy = roundTrip(registry, pair);
+        Assert.assertEquals(pair, pairCopy);
+        Assert.assertEquals(map, pairCopy.getValue());
+        Version version = Version.parse("1.2-beta.3-SNAPSHOT");
+        Version versionCopy = roundTrip(registry, version);
+        Assert.assertEquals(version, versionCopy);
+        Assert.assertEquals(version.toString(), versionCopy.toString());
+        Failure failure = new Failure();
+        failure.setCode("code");
+        failure.setDetails("details");
+        failure.setTitle("title");
+        Failure failureCopy = roundTrip(registry, failure);
+        Assert.assertEquals(failure, failureCopy);
+        Assert.assertEquals(failure.getDetails(), failureCopy.getDetails());
+        Credentials credentials = new Credentials("login", "password");
+        Assert.assertEquals(credentials, roundTrip(registry, credentials));
+    }
+
+    @Test
+    public void testStrings() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        byte[] bytes = registry.encode(Arrays.asList("abc", "abc"));
+        byte[] expected = {7, 2, 6, 1, 3, 'a', 'b', 'c', 6, 2};
+        Assert.assertArrayEquals(expected, bytes);
+        List<?> strings = (List<?>) registry.decode(registry.encode(
+                Arrays.asList("first", "second", "first", "second")));
+        Assert.assertEquals(Arrays.asList("first", "second", "first",
+                "second"), strings);
+        Assert.assertSame(strings.get(0), strings.get(2));
+        Assert.assertSame(strings.get(1), strings.get(3));
+        try {
+            registry.decode(new byte[] {7, 1, 6, 3});
+            Assert.fail("unknown string is decoded");
+        } catch (IOException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testTruncated() throws IOException {
+        CodecRegistry registry = new CodecRegistry();
+        Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("version", Version.parse("1.0-SNAPSHOT"));
+        map.put("pair", new Pair<String, Long>("text", Long.MAX_VALUE));
+        map.put("box", new Box<Double>(1.5));
+        byte[] bytes = registry.encode(map);
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = new byte[length];
+            System.arraycopy(bytes, 0, truncated, 0, length);
+            try {
+                registry.decode(truncated);
+                Assert.fail("truncated input is decoded: " + length);
+            } catch (IOException e) {
+                // NOTE: expected exception
+            }
+        }
+        Assert.assertEquals(map, registry.decode(bytes));
+    }
+
+    private static void assertCorrupt(CodecRegistry registry, int... bytes) {
+        byte[] input = new byte[bytes.length];
+        for (int index = 0; index < bytes.length; index++) {
+            input[index] = (byte) bytes[index];
+        }
+        try {
+            registry.decode(input);
+            Assert.fail("corrupt input is decoded: " + Arrays.toString(bytes));
+        } catch (IOException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(CodecRegistry registry, T object)
+            throws IOException {
+        return (T) registry.decode(registry.encode(object));
+    }
+}
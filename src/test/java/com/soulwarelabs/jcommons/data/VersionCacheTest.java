@@ -0,0 +1,98 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionCacheTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Canonical version descriptor cache unit test.
+ *
+ * @see VersionCache
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionCacheTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public VersionCacheTest() {
+
+    }
+
+    @Test
+    public void testIntern() {
+        VersionCache cache = new VersionCache();
+        Version version = cache.intern("1.2-beta");
+        Assert.assertEquals(true, version.isFrozen());
+        Assert.assertEquals(Version.parse("1.2-beta"), version);
+        Assert.assertEquals(true, version == cache.intern("1.2-beta"));
+        Version mutable = Version.parse("1.2-beta");
+        Assert.assertEquals(true, version == cache.intern(mutable));
+        Assert.assertEquals(false, mutable.isFrozen());
+        Version other = cache.intern(Version.parse("2.0"));
+        Assert.assertEquals(true, other == cache.intern("2.0"));
+        Assert.assertEquals(null, cache.intern((Version) null));
+        Assert.assertEquals(true,
+                Version.intern("3.0") == Version.intern("3.0"));
+        cache.clear();
+        Assert.assertEquals(false, version == cache.intern("1.2-beta"));
+        try {
+            cache.intern((String) null);
+            Assert.fail("null version is accepted");
+        } catch (NullPointerException e) {
+            // NOTE: expected exception
+        }
+        try {
+            new VersionCache(0);
+            Assert.fail("illegal capacity is accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testRotate() {
+        VersionCache cache = new VersionCache(2);
+        Assert.assertEquals(2, cache.getCapacity());
+        Version hot = cache.intern("1.0");
+        Version cold = cache.intern("2.0");
+        for (int index = 0; index < 100; index++) {
+            Assert.assertEquals(true, hot == cache.intern("1.0"));
+            cache.intern("3." + index);
+        }
+        Version evicted = cache.intern("2.0");
+        Assert.assertEquals(cold, evicted);
+        Assert.assertEquals(false, cold == evicted);
+        Assert.assertEquals(true, evicted == cache.intern("2.0"));
+    }
+}
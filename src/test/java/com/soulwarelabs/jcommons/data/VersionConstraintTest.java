@@ -0,0 +1,191 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionConstraintTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Version constraint unit test.
+ *
+ * @see VersionConstraint
+ * @see VersionRange
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionConstraintTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public VersionConstraintTest() {
+
+    }
+
+    @Test
+    public void testFilter() {
+        List<Version> candidates = new ArrayList<Version>();
+        String[] versions = {"0.9", "1.0-SNAPSHOT", "1.0", "1.5",
+                "2.0-SNAPSHOT", "2.0", "3.0", "3.1"};
+        for (String version : versions) {
+            candidates.add(Version.parse(version));
+        }
+        VersionConstraint constraint = VersionConstraint.parse(
+                "[1.0,2.0),(3.0,)");
+        List<Version> expected = new ArrayList<Version>();
+        for (Version candidate : candidates) {
+            if (constraint.matches(candidate)) {
+                expected.add(candidate);
+            }
+        }
+        Assert.assertEquals(Arrays.asList(Version.parse("1.0"),
+                Version.parse("1.5"), Version.parse("2.0-SNAPSHOT"),
+                Version.parse("3.1")), expected);
+        Assert.assertEquals(expected, constraint.filter(candidates));
+    }
+
+    @Test
+    public void testIntersect() {
+        VersionConstraint first = VersionConstraint.parse("[1.0,3.0)");
+        VersionConstraint second = VersionConstraint.parse("(2.0,4.0]");
+        VersionConstraint both = first.intersect(second);
+        Assert.assertEquals("(2.0,3.0)", both.print().toString());
+        Assert.assertEquals(both, second.intersect(first));
+        Assert.assertEquals("[1.0,4.0]",
+                first.union(second).print().toString());
+        VersionConstraint touching = VersionConstraint.parse("[3.0,5.0)");
+        Assert.assertEquals(true, first.intersect(touching).isEmpty());
+        Assert.assertEquals("[1.0,5.0)",
+                first.union(touching).print().toString());
+        VersionConstraint point = VersionConstraint.parse("[3.0]");
+        Assert.assertEquals(true, first.intersect(point).isEmpty());
+        Assert.assertEquals("[3.0]",
+                touching.intersect(point).print().toString());
+        Assert.assertEquals(first, first.intersect(VersionConstraint.ANY));
+        Assert.assertEquals(true,
+                first.intersect(VersionConstraint.NONE).isEmpty());
+        VersionConstraint excluded = VersionConstraint.parse("!=2.0");
+        Assert.assertEquals("[1.0,2.0),(2.0,3.0)",
+                first.intersect(excluded).print().toString());
+    }
+
+    @Test
+    public void testMatches() {
+        VersionConstraint range = VersionConstraint.parse("[1.0,2.0)");
+        Assert.assertEquals(true, range.matches(Version.parse("1.0")));
+        Assert.assertEquals(true, range.matches(Version.parse("1.9.9")));
+        Assert.assertEquals(false, range.matches(Version.parse("2.0")));
+        // NOTE: snapshots precede their releases
+        Assert.assertEquals(false,
+                range.matches(Version.parse("1.0-SNAPSHOT")));
+        Assert.assertEquals(true,
+                range.matches(Version.parse("2.0-SNAPSHOT")));
+        VersionConstraint exclusive = VersionConstraint.parse("(1.0,2.0]");
+        Assert.assertEquals(false, exclusive.matches(Version.parse("1.0")));
+        Assert.assertEquals(true, exclusive.matches(Version.parse("2.0")));
+        Assert.assertEquals(true, exclusive.matches(Version.parse("1.0.0")));
+        VersionConstraint snapshot = VersionConstraint.parse(
+                ">=3.1.0-SNAPSHOT");
+        Assert.assertEquals(true,
+                snapshot.matches(Version.parse("3.1.0-SNAPSHOT")));
+        Assert.assertEquals(true, snapshot.matches(Version.parse("3.1.0")));
+        Assert.assertEquals(false, snapshot.matches(Version.parse("3.1")));
+        VersionConstraint exact = VersionConstraint.parse("1.5");
+        Assert.assertEquals(true, exact.matches(Version.parse("1.5")));
+        Assert.assertEquals(false,
+                exact.matches(Version.parse("1.5-SNAPSHOT")));
+        Assert.assertEquals(true,
+                VersionConstraint.ANY.matches(Version.parse("0")));
+        Assert.assertEquals(false,
+                VersionConstraint.NONE.matches(Version.parse("0")));
+    }
+
+    @Test
+    public void testParse() {
+        String[][] constraints = {
+            {"[1.0,2.0)", "[1.0,2.0)"},
+            {"(,1.0]", "(,1.0]"},
+            {"[1.5]", "[1.5]"},
+            {"1.5", "[1.5]"},
+            {"[1.0,2.0),[3.0,)", "[1.0,2.0),[3.0,)"},
+            {"[3.0,),[1.0,2.0)", "[1.0,2.0),[3.0,)"},
+            {"[1.0,2.0],[1.5,3.0)", "[1.0,3.0)"},
+            {">=1.2 <2.0", "[1.2,2.0)"},
+            {">1.2 <=2.0 || >=3.1.0-SNAPSHOT", "(1.2,2.0],[3.1.0-SNAPSHOT,)"},
+            {"!=1.5", "(,1.5),(1.5,)"},
+            {"=1.5", "[1.5]"},
+            {" < 1.0 ", "(,1.0)"}
+        };
+        for (String[] constraint : constraints) {
+            VersionConstraint parsed = VersionConstraint.parse(constraint[0]);
+            Assert.assertEquals(constraint[0], constraint[1],
+                    parsed.print().toString());
+            Assert.assertEquals(parsed,
+                    VersionConstraint.parse(constraint[1]));
+        }
+        String[] illegal = {"", " ", "[1.0", "[1.0,2.0", ">=", "<>1.0",
+                "[2.0,1.0]", "(1.0,1.0)", "[1.0,2.0) x"};
+        for (String constraint : illegal) {
+            try {
+                VersionConstraint.parse(constraint);
+                Assert.fail(constraint);
+            } catch (IllegalArgumentException e) {
+                // NOTE: expected exception
+            }
+        }
+    }
+
+    @Test
+    public void testRange() {
+        VersionRange range = new VersionRange(Version.parse("1.0"), false,
+                Version.parse("2.0"), true);
+        Assert.assertEquals("(1.0,2.0]", range.print().toString());
+        Assert.assertEquals(false, range.contains(Version.parse("1.0")));
+        Assert.assertEquals(true, range.contains(Version.parse("2.0")));
+        Assert.assertEquals(true, range.getLower().isFrozen());
+        Version bound = Version.parse("1.0");
+        VersionRange single = new VersionRange(bound);
+        bound.setSnapshot(true);
+        Assert.assertEquals("[1.0]", single.print().toString());
+        Assert.assertEquals(true, single.contains(Version.parse("1.0")));
+        try {
+            new VersionRange(Version.parse("1.0"), true, Version.parse("1.0"),
+                    false);
+            Assert.fail("empty range is created");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+}
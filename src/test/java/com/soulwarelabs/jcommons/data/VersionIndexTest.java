@@ -0,0 +1,240 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionIndexTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Sorted index of versions unit test.
+ *
+ * @see ConcurrentVersionIndex
+ * @see TreeVersionIndex
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionIndexTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public VersionIndexTest() {
+
+    }
+
+    @Test
+    public void testBulk() throws Exception {
+        final List<Version> batch = new ArrayList<Version>();
+        for (int index = 1000; index > 0; index--) {
+            batch.add(new Version(index % 10, index / 10));
+        }
+        final ConcurrentVersionIndex index = new ConcurrentVersionIndex(
+                batch.subList(0, 500));
+        Assert.assertEquals(500, index.getSize());
+        Assert.assertEquals(new Version(0, 51), index.iterator().next());
+        final List<Integer> sizes = new ArrayList<Integer>();
+        Thread reader = new Thread() {
+
+            @Override
+            public void run() {
+                while (index.getSize() < batch.size()) {
+                    sizes.add(index.getSize());
+                }
+            }
+        };
+        reader.start();
+        Assert.assertEquals(true, index.addAll(batch));
+        reader.join();
+        for (int size : sizes) {
+            Assert.assertEquals(500, size);
+        }
+        Assert.assertEquals(new Version(9, 99), index.getLatest());
+        Assert.assertEquals(false, index.addAll(batch));
+        Assert.assertEquals(false,
+                index.addAll(new ArrayList<Version>()));
+        try {
+            index.addAll(Arrays.asList(new Version(10), null));
+            Assert.fail("null version is accepted");
+        } catch (NullPointerException e) {
+            // NOTE: expected exception
+        }
+        Assert.assertEquals(false, index.contains(new Version(10)));
+        Assert.assertEquals(1000, index.getSize());
+    }
+
+    @Test
+    public void testQueries() {
+        VersionIndex[] indexes = {
+            new TreeVersionIndex(), new ConcurrentVersionIndex()
+        };
+        for (VersionIndex index : indexes) {
+            Assert.assertEquals(null, index.getLatest());
+            Assert.assertEquals(null, index.getLatestRelease());
+            Assert.assertEquals(true, index.addAll(Arrays.asList(
+                    Version.parse("1.0"), Version.parse("1.1-SNAPSHOT"),
+                    Version.parse("1.1"), Version.parse("2.0-SNAPSHOT"),
+                    Version.parse("3.0-SNAPSHOT"))));
+            Assert.assertEquals(false, index.add(Version.parse("1.1")));
+            Assert.assertEquals(5, index.getSize());
+            Assert.assertEquals(Version.parse("1.0"),
+                    index.floor(Version.parse("1.0.5")));
+            Assert.assertEquals(Version.parse("1.1-SNAPSHOT"),
+                    index.ceiling(Version.parse("1.0.5")));
+            Assert.assertEquals(Version.parse("1.1"),
+                    index.floor(Version.parse("1.1")));
+            Assert.assertEquals(null, index.floor(Version.parse("0.9")));
+            Assert.assertEquals(null, index.ceiling(Version.parse("3.0")));
+            Assert.assertEquals(Version.parse("1.1"), index.getLatest(1));
+            Assert.assertEquals(Version.parse("2.0-SNAPSHOT"),
+                    index.getLatest(2));
+            Assert.assertEquals(null, index.getLatest(0));
+            Assert.assertEquals(null, index.getLatest(4));
+            Assert.assertEquals(Version.parse("1.1"),
+                    index.getLatestRelease());
+            Assert.assertEquals(true, index.remove(Version.parse("1.1")));
+            Assert.assertEquals(Version.parse("1.0"),
+                    index.getLatestRelease());
+            Assert.assertEquals(true, index.add(Version.parse("3.0")));
+            Assert.assertEquals(Version.parse("3.0"),
+                    index.getLatestRelease());
+            Assert.assertEquals(true, index.remove(Version.parse("3.0")));
+            Assert.assertEquals(true, index.remove(Version.parse("1.0")));
+            Assert.assertEquals(null, index.getLatestRelease());
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        Random random = new Random(15);
+        VersionIndex tree = new TreeVersionIndex();
+        VersionIndex concurrent = new ConcurrentVersionIndex();
+        TreeSet<Version> expected = new TreeSet<Version>();
+        for (int step = 0; step < 2000; step++) {
+            Version version = createVersion(random);
+            int operation = random.nextInt(4);
+            if (operation == 0) {
+                boolean removed = expected.remove(version);
+                Assert.assertEquals(removed, tree.remove(version));
+                Assert.assertEquals(removed, concurrent.remove(version));
+            } else if (operation == 1) {
+                List<Version> batch = new ArrayList<Version>();
+                batch.add(version);
+                batch.add(createVersion(random));
+                batch.add(version);
+                boolean added = expected.addAll(batch);
+                Assert.assertEquals(added, tree.addAll(batch));
+                Assert.assertEquals(added, concurrent.addAll(batch));
+            } else {
+                boolean added = expected.add(version);
+                Assert.assertEquals(added, tree.add(version));
+                Assert.assertEquals(added, concurrent.add(version));
+            }
+            Version probe = createVersion(random);
+            VersionIndex[] indexes = {tree, concurrent};
+            for (VersionIndex index : indexes) {
+                Assert.assertEquals(expected.size(), index.getSize());
+                Assert.assertEquals(getLatestRelease(expected),
+                        index.getLatestRelease());
+                Assert.assertEquals(getFloor(expected, probe),
+                        index.floor(probe));
+                Assert.assertEquals(getCeiling(expected, probe),
+                        index.ceiling(probe));
+                for (int major = 0; major < 4; major++) {
+                    Assert.assertEquals(getLatest(expected, major),
+                            index.getLatest(major));
+                }
+            }
+        }
+    }
+
+    private static Version createVersion(Random random) {
+        StringBuilder result = new StringBuilder();
+        result.append(random.nextInt(4)).append('.');
+        result.append(random.nextInt(3));
+        if (random.nextBoolean()) {
+            result.append('.').append(random.nextInt(2));
+        }
+        if (random.nextInt(4) == 0) {
+            result.append("-beta");
+        }
+        if (random.nextBoolean()) {
+            result.append("-SNAPSHOT");
+        }
+        return Version.parse(result.toString());
+    }
+
+    private static Version getCeiling(TreeSet<Version> versions,
+            Version version) {
+        for (Version candidate : versions) {
+            if (candidate.compareTo(version) >= 0) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static Version getFloor(TreeSet<Version> versions,
+            Version version) {
+        Version result = null;
+        for (Version candidate : versions) {
+            if (candidate.compareTo(version) <= 0) {
+                result = candidate;
+            }
+        }
+        return result;
+    }
+
+    private static Version getLatest(TreeSet<Version> versions, int major) {
+        Version result = null;
+        for (Version candidate : versions) {
+            if (candidate.getMajor() == major) {
+                result = candidate;
+            }
+        }
+        return result;
+    }
+
+    private static Version getLatestRelease(TreeSet<Version> versions) {
+        Version result = null;
+        for (Version candidate : versions) {
+            if (!candidate.isSnapshot()) {
+                result = candidate;
+            }
+        }
+        return result;
+    }
+}
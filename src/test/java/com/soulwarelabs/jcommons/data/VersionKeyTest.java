@@ -0,0 +1,141 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionKeyTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Byte-comparable version key codec unit test.
+ *
+ * @see VersionKey
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionKeyTest {
+
+    private static final String[] LABELS = {
+        null, "a", "A", "b", "beta", "Beta", "rc", "\u00e9", "\u4e2d", "x1"
+    };
+    private static final int[] NUMBERS = {
+        0, 1, 2, 9, 10, 255, 256, 65536, Integer.MAX_VALUE
+    };
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public VersionKeyTest() {
+
+    }
+
+    @Test
+    public void testOrder() {
+        Random random = new Random(17);
+        List<Version> versions = new ArrayList<Version>();
+        versions.add(new Version());
+        for (int index = 0; index < 300; index++) {
+            versions.add(createVersion(random));
+        }
+        for (Version first : versions) {
+            byte[] key = first.toKey();
+            for (Version second : versions) {
+                int expected = Integer.signum(first.compareTo(second));
+                int actual = Integer.signum(compare(key, second.toKey()));
+                if (expected != 0) {
+                    Assert.assertEquals(first + " " + second, expected,
+                            actual);
+                } else if (first.equals(second)) {
+                    Assert.assertEquals(0, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParseKey() {
+        Random random = new Random(71);
+        for (int index = 0; index < 300; index++) {
+            Version version = createVersion(random);
+            byte[] key = version.toKey();
+            Version parsed = Version.parseKey(key);
+            Assert.assertEquals(version, parsed);
+            Assert.assertEquals(version.print().toString(),
+                    parsed.print().toString());
+            byte[] padded = new byte[key.length + 4];
+            System.arraycopy(key, 0, padded, 2, key.length);
+            Assert.assertEquals(version,
+                    Version.parseKey(padded, 2, key.length));
+        }
+        byte[][] illegal = {
+            {}, {0x05}, {VersionKey.NUMBER, 0, 0},
+            {VersionKey.NUMBER, (byte) 0x80, 0, 0, 1, VersionKey.LABEL, 'b'}
+        };
+        for (byte[] key : illegal) {
+            try {
+                Version.parseKey(key);
+                Assert.fail("illegal key is parsed");
+            } catch (IllegalArgumentException e) {
+                // NOTE: expected exception
+            }
+        }
+        try {
+            Version.parseKey(new byte[2], 1, 2);
+            Assert.fail("illegal region is accepted");
+        } catch (IndexOutOfBoundsException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    private static int compare(byte[] first, byte[] second) {
+        int length = Math.min(first.length, second.length);
+        for (int index = 0; index < length; index++) {
+            int delta = (first[index] & 0xFF) - (second[index] & 0xFF);
+            if (delta != 0) {
+                return delta;
+            }
+        }
+        return first.length - second.length;
+    }
+
+    private static Version createVersion(Random random) {
+        Version result = new Version();
+        int length = 1 + random.nextInt(4);
+        for (int index = 0; index < length; index++) {
+            result.append(NUMBERS[random.nextInt(NUMBERS.length)],
+                    LABELS[random.nextInt(LABELS.length)]);
+        }
+        return result.setSnapshot(random.nextBoolean());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.02, 18 October 2026
+ * Created:  17 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.io.StringWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Semantic version descriptor unit test.
+ *
+ * @see Version
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionTest {
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public VersionTest() {
+
+    }
+
+    @Test
+    public void testCompareTo() {
+        Version version = Version.parse("1.2");
+        Version longer = Version.parse("1.2.0");
+        Assert.assertEquals(0, version.compareTo(Version.parse("1.2")));
+        Assert.assertEquals(true, version.compareTo(longer) < 0);
+        Assert.assertEquals(true, longer.compareTo(version) > 0);
+        Assert.assertEquals(true, version.compareTo(Version.parse("1.10")) < 0);
+        Version beta = Version.parse("1.2-beta");
+        Assert.assertEquals(true, beta.compareTo(version) < 0);
+        Version snapshot = Version.parse("1.2-SNAPSHOT");
+        Assert.assertEquals(true, snapshot.compareTo(version) < 0);
+    }
+
+    @Test
+    public void testNumbers() {
+        Version version = new Version();
+        for (int index = 0; index < 20; index++) {
+            version.append(index, index % 5 == 0 ? "l" + index : null);
+        }
+        Assert.assertEquals(20, version.getLength());
+        Assert.assertEquals(Integer.valueOf(10), version.getNumber(11));
+        Assert.assertEquals("l10", version.getNumberLabel(11));
+        Assert.assertEquals(null, version.getNumberLabel(12));
+        Assert.assertEquals(null, version.getNumber(21));
+        Version copy = Version.copy(version);
+        Assert.assertEquals(version, copy);
+        Assert.assertEquals(version.hashCode(), copy.hashCode());
+        copy.setNumber(1, 7, "x");
+        Assert.assertEquals(Integer.valueOf(0), version.getNumber(1));
+        Assert.assertEquals("l0", version.getNumberLabel(1));
+        Assert.assertEquals(false, version.equals(copy));
+        Version cut = new Version().append(1, "a").append(2).append(3, "c")
+                .cutoff(2);
+        Assert.assertEquals("2.3-c", cut.print().toString());
+        Assert.assertEquals(null, cut.getNumberLabel(1));
+        Assert.assertEquals(new Version(2).append(3, "c"), cut);
+        version.reset(4, 5);
+        Assert.assertEquals(new Version(4, 5), version);
+        Assert.assertEquals(null, version.getNumberLabel(1));
+        Assert.assertEquals(false,
+                new Version(1, 2).equals(new Version(1, 2).setMinor(2, "b")));
+        try {
+            version.append(-1);
+            Assert.fail("negative number is accepted");
+        } catch (IllegalArgumentException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testParse() {
+        Version version = Version.parse("1.2-beta.3-SNAPSHOT");
+        Assert.assertEquals(3, version.getLength());
+        Assert.assertEquals(Integer.valueOf(2), version.getMinor());
+        Assert.assertEquals("beta", version.getMinorLabel());
+        Assert.assertEquals(true, version.isSnapshot());
+        Assert.assertEquals("1.2-beta.3-SNAPSHOT", version.print().toString());
+        Assert.assertEquals(0, Version.parse("unknown").getLength());
+        Assert.assertEquals(version, Version.parse("[1.2-beta.3-SNAPSHOT]", 1,
+                20));
+    }
+
+    @Test
+    public void testParseIllegal() {
+        String[] versions = {"", "1.", "1..2", ".1", "a", "1-", "2147483648"};
+        for (String version : versions) {
+            try {
+                Version.parse(version);
+                Assert.fail(version);
+            } catch (IllegalArgumentException e) {
+                // NOTE: expected exception
+            }
+        }
+    }
+
+    @Test
+    public void testPrint() throws Exception {
+        Version version = Version.parse("1.2-beta");
+        Assert.assertEquals("1.2-beta", version.print().toString());
+        version.setMinor(3, "rc\u00e9").setSnapshot(true);
+        String expected = "1.3-rc\u00e9-SNAPSHOT";
+        assertPrinted(expected, version);
+        version.reset(4).setSnapshot(false);
+        assertPrinted("4", version);
+        version.freeze();
+        assertPrinted("4", version);
+        Version copy = Version.copy(version).append(5);
+        assertPrinted("4.5", copy);
+        assertPrinted("4", version);
+        assertPrinted("unknown", new Version());
+        try {
+            copy.appendTo(new byte[2], 0);
+            Assert.fail("presentation does not fit");
+        } catch (IndexOutOfBoundsException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    private static void assertPrinted(String expected, Version version)
+            throws Exception {
+        Assert.assertEquals(expected, version.print().toString());
+        Assert.assertEquals("\"" + expected + "\"", version.toString());
+        StringBuilder builder = new StringBuilder("[");
+        Assert.assertEquals("[" + expected,
+                version.appendTo(builder).toString());
+        StringWriter writer = new StringWriter();
+        version.printTo(writer);
+        Assert.assertEquals(expected, writer.toString());
+        byte[] bytes = expected.getBytes("UTF-8");
+        byte[] buffer = new byte[bytes.length + 2];
+        Assert.assertEquals(bytes.length + 1, version.appendTo(buffer, 1));
+        for (int index = 0; index < bytes.length; index++) {
+            Assert.assertEquals(bytes[index], buffer[index + 1]);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Project:  jCommons API
+ * Outline:  jCommons framework API components
+ *
+ * File:     VersionsTest.java
+ * Folder:   src/test/java/com/soulwarelabs/jcommons/data
+ * Revision: 1.00, 18 October 2026
+ * Created:  18 October 2026
+ * Authors:  Ilya Gubarev
+ *
+ * Copyright (c) 2026 Soulware Labs, Ltd.
+ * Contact information is available at "http://www.soulwarelabs.com".
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       "http://www.apache.org/licenses/LICENSE-2.0".
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.soulwarelabs.jcommons.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Version descriptor utilities unit test.
+ *
+ * @see Versions
+ *
+ * @since v1.1.0
+ *
+ * @author Ilya Gubarev
+ * @version 18 October 2026
+ */
+public class VersionsTest {
+
+    private static final String[] LABELS = {null, "alpha", "beta", "Beta"};
+
+    /**
+     * Creates a new unit test.
+     *
+     * @since v1.1.0
+     */
+    public VersionsTest() {
+
+    }
+
+    @Test
+    public void testDistinct() {
+        List<Version> versions = createVersions(new Random(18), 1000);
+        List<Version> sorted = new ArrayList<Version>(versions);
+        Collections.sort(sorted);
+        List<Version> expected = new ArrayList<Version>();
+        for (Version version : sorted) {
+            int size = expected.size();
+            if (size == 0 ||
+                    expected.get(size - 1).compareTo(version) != 0) {
+                expected.add(version);
+            }
+        }
+        assertSame(expected, Versions.distinct(versions));
+    }
+
+    @Test
+    public void testSort() {
+        Random random = new Random(81);
+        int[] sizes = {0, 1, 2, 63, 64, 65, 1000, 5000};
+        for (int size : sizes) {
+            List<Version> versions = createVersions(random, size);
+            List<Version> expected = new ArrayList<Version>(versions);
+            Collections.sort(expected);
+            Versions.sort(versions);
+            assertSame(expected, versions);
+        }
+        try {
+            Versions.sort((Version[]) null);
+            Assert.fail("null versions are accepted");
+        } catch (NullPointerException e) {
+            // NOTE: expected exception
+        }
+    }
+
+    @Test
+    public void testSortParallel() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Random random = new Random(181);
+            int[] sizes = {10, Versions.PARALLEL_THRESHOLD * 4 + 3};
+            for (int size : sizes) {
+                List<Version> versions = createVersions(random, size);
+                List<Version> expected = new ArrayList<Version>(versions);
+                Collections.sort(expected);
+                Versions.sort(versions, executor);
+                assertSame(expected, versions);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertSame(List<Version> expected,
+            List<Version> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int index = 0; index < expected.size(); index++) {
+            // NOTE: sorting is stable, so equal versions keep their order
+            Assert.assertEquals(true, expected.get(index) == actual.get(index));
+        }
+    }
+
+    private static List<Version> createVersions(Random random, int size) {
+        List<Version> result = new ArrayList<Version>(size);
+        for (int index = 0; index < size; index++) {
+            Version version = new Version();
+            int length = random.nextInt(4);
+            for (int number = 0; number < length; number++) {
+                version.append(random.nextInt(number == 0 ? 5 : 3),
+                        LABELS[random.nextInt(LABELS.length)]);
+            }
+            result.add(version.setSnapshot(random.nextInt(4) == 0));
+        }
+        return result;
+    }
+}